@@ -0,0 +1,56 @@
+package com.hotelmanager;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+public class EmbeddedMariaDb {
+
+    private static final String DATABASE = "hotel_manager_benchmark";
+    private static final String USERNAME = "root";
+
+    private final DB database;
+    private final String url;
+
+    private EmbeddedMariaDb(DB database, String url) {
+        this.database = database;
+        this.url = url;
+    }
+
+    public static EmbeddedMariaDb start(String migrationTarget, String... serverArgs) throws ManagedProcessException {
+        DBConfigurationBuilder configuration = DBConfigurationBuilder.newBuilder()
+                .setPort(0);
+        for (String serverArg : serverArgs) {
+            configuration.addArg(serverArg);
+        }
+        if (USERNAME.equals(System.getProperty("user.name"))) {
+            configuration.addArg("--user=root");
+        }
+
+        DB database = DB.newEmbeddedDB(configuration.build());
+        database.start();
+
+        String url = configuration.getURL(DATABASE) + "?createDatabaseIfNotExist=true";
+        Flyway.configure()
+                .dataSource(url, USERNAME, "")
+                .locations("classpath:db/migration")
+                .target(migrationTarget)
+                .load()
+                .migrate();
+
+        return new EmbeddedMariaDb(database, url);
+    }
+
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(this.url, USERNAME, "");
+    }
+
+    public void stop() throws ManagedProcessException {
+        this.database.stop();
+    }
+}
@@ -0,0 +1,95 @@
+package com.hotelmanager.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class FeignClientBenchmark {
+
+    private static final FilesServiceHttpClientProperties PROPERTIES = new FilesServiceHttpClientProperties(
+            Duration.ofSeconds(2), Duration.ofSeconds(10), 200, 50, Duration.ofMinutes(5), Duration.ofSeconds(30), FilesServiceHttpClientProperties.Transport.DEFAULT);
+    private static final byte[] PHOTOS = """
+            [{"uuid":"%s","publicId":"room/photo","url":"https://cdn.hotelmanager.com/room/photo.jpg"}]
+            """.formatted(UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+
+    @Param({"default", "pooled", "http2"})
+    public String transport;
+
+    private HttpServer filesServiceStub;
+    private ExecutorService stubExecutor;
+    private CloseableHttpClient pooledHttpClient;
+    private PhotosApi photosApi;
+
+    interface PhotosApi {
+
+        @RequestLine("GET /api/room/{roomId}")
+        String getPhotosByRoom(@feign.Param("roomId") String roomId);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.stubExecutor = Executors.newFixedThreadPool(32);
+        this.filesServiceStub = HttpServer.create(new InetSocketAddress("localhost", 0), 128);
+        this.filesServiceStub.setExecutor(this.stubExecutor);
+        this.filesServiceStub.createContext("/api/room", FeignClientBenchmark::respond);
+        this.filesServiceStub.start();
+
+        FeignConfiguration configuration = new FeignConfiguration();
+        Client client = switch (this.transport) {
+            case "pooled" -> {
+                this.pooledHttpClient = new FilesServiceHttpClientConfiguration().filesServiceHttpClient(PROPERTIES);
+                yield configuration.pooledFeignClient(this.pooledHttpClient);
+            }
+            case "http2" -> configuration.http2FeignClient(PROPERTIES);
+            default -> new Client.Default(null, null);
+        };
+
+        this.photosApi = Feign.builder()
+                .client(client)
+                .options(configuration.feignRequestOptions(PROPERTIES))
+                .target(PhotosApi.class, "http://localhost:" + this.filesServiceStub.getAddress().getPort());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (this.pooledHttpClient != null) {
+            this.pooledHttpClient.close();
+        }
+        this.filesServiceStub.stop(0);
+        this.stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String getPhotosByRoom() {
+        return this.photosApi.getPhotosByRoom("room-id");
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, PHOTOS.length);
+        exchange.getResponseBody().write(PHOTOS);
+        exchange.close();
+    }
+}
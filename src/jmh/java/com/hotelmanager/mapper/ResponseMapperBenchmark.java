@@ -0,0 +1,157 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.config.ApplicationConfiguration;
+import com.hotelmanager.model.dto.response.ReservationDetailsDto;
+import com.hotelmanager.model.dto.response.ReservationPageResponseDto;
+import com.hotelmanager.model.dto.response.UserPageDto;
+import com.hotelmanager.model.entity.*;
+import com.hotelmanager.model.enums.*;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMapperBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ModelMapper modelMapper;
+    private ReservationMapper reservationMapper;
+    private UserMapper userMapper;
+
+    private Reservation reservation;
+    private List<Reservation> reservationsPage;
+    private List<User> usersPage;
+
+    @Setup
+    public void setup() {
+        this.modelMapper = new ApplicationConfiguration().modelMapper();
+        this.reservationMapper = new ReservationMapperImpl();
+        this.userMapper = new UserMapperImpl(new RoleMapperImpl());
+
+        RoomType roomType = withUuid(RoomType.builder()
+                .name("STANDARD_DOUBLE_ROOM")
+                .basePricePerNight(BigDecimal.valueOf(120))
+                .capacity(2)
+                .build());
+        Role role = withUuid(Role.builder()
+                .name("MANAGER")
+                .build());
+
+        this.reservation = reservation(roomType);
+        this.reservationsPage = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> reservation(roomType))
+                .toList();
+        this.usersPage = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> user(i, role))
+                .toList();
+    }
+
+    @Benchmark
+    public ReservationDetailsDto modelMapperReservationDetails() {
+        return this.modelMapper.map(this.reservation, ReservationDetailsDto.class);
+    }
+
+    @Benchmark
+    public ReservationDetailsDto mapStructReservationDetails() {
+        return this.reservationMapper.toDetailsDto(this.reservation);
+    }
+
+    @Benchmark
+    public List<ReservationPageResponseDto> modelMapperReservationsPage() {
+        return this.reservationsPage.stream()
+                .map(reservation -> this.modelMapper.map(reservation, ReservationPageResponseDto.class))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ReservationPageResponseDto> mapStructReservationsPage() {
+        return this.reservationsPage.stream()
+                .map(this.reservationMapper::toPageResponseDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<UserPageDto> modelMapperUsersPage() {
+        return this.usersPage.stream()
+                .map(user -> this.modelMapper.map(user, UserPageDto.class))
+                .toList();
+    }
+
+    @Benchmark
+    public List<UserPageDto> mapStructUsersPage() {
+        return this.usersPage.stream()
+                .map(this.userMapper::toPageDto)
+                .toList();
+    }
+
+    private static Reservation reservation(RoomType roomType) {
+        Reservation reservation = withUuid(Reservation.builder()
+                .firstName("John")
+                .lastName("Down")
+                .email("john@hotelmanager.com")
+                .phone("+1234567890")
+                .guestsCount(2)
+                .reservationStatus(ReservationStatus.values()[0])
+                .accommodationCoast(BigDecimal.valueOf(360))
+                .reservationPaymentType(ReservationPaymentType.FULL_PREPAY)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(3))
+                .rooms(Set.of())
+                .createdDateTime(LocalDateTime.now())
+                .build());
+
+        reservation.setPayments(List.of(withUuid(Payment.builder()
+                .amount(BigDecimal.valueOf(360))
+                .paymentType(PaymentType.CARD_PAYMENT)
+                .reason(PaymentReason.ACCOMMODATION_PREPAID)
+                .status(PaymentStatus.PENDING)
+                .reservation(reservation)
+                .createdDateTime(LocalDateTime.now())
+                .build())));
+        reservation.setRoomTypes(Set.of(ReservationRoomType.builder()
+                .reservation(reservation)
+                .roomType(roomType)
+                .roomsCount(1)
+                .build()));
+        return reservation;
+    }
+
+    private static User user(int index, Role role) {
+        return withUuid(User.builder()
+                .username("user" + index)
+                .email("user" + index + "@hotelmanager.com")
+                .firstName("First" + index)
+                .lastName("Last" + index)
+                .position("Receptionist")
+                .roles(Set.of(role))
+                .isEnabled(true)
+                .createdDateTime(LocalDateTime.now())
+                .build());
+    }
+
+    private static <T extends BaseUUIDEntity> T withUuid(T entity) {
+        try {
+            Field uuid = BaseUUIDEntity.class.getDeclaredField("uuid");
+            uuid.setAccessible(true);
+            uuid.set(entity, UUID.randomUUID());
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.hotelmanager.model.entity.id;
+
+import com.hotelmanager.EmbeddedMariaDb;
+import com.hotelmanager.model.enums.UuidVersion;
+import org.hibernate.id.uuid.UuidValueGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_RESERVATION = """
+            INSERT INTO reservations (uuid, first_name, last_name, email, phone, guests_count, reservation_status,
+                                      accommodation_coast, reservation_payment_type, start_date, end_date, is_deleted,
+                                      created_date_time, updated_date_time)
+            VALUES (?, 'Guest', 'Benchmark', 'guest@hotelmanager.com', '+1234567890', 2, 'RESERVATION_REQUEST',
+                    ?, 'FULL_PREPAY', ?, ?, FALSE, ?, ?)
+            """;
+
+    @Param({"V4", "V7"})
+    public UuidVersion version;
+
+    private EmbeddedMariaDb database;
+    private Connection connection;
+    private PreparedStatement insertReservation;
+    private UuidValueGenerator generator;
+    private long inserted;
+
+    @Setup
+    public void setup() throws Exception {
+        this.database = EmbeddedMariaDb.start("latest", "--innodb-buffer-pool-size=64M");
+        this.connection = this.database.connect();
+        this.connection.setAutoCommit(false);
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("SET GLOBAL innodb_monitor_enable = 'index_page_splits'");
+        }
+
+        this.insertReservation = this.connection.prepareStatement(INSERT_RESERVATION);
+        this.generator = ConfigurableUuidGenerator.valueGenerator(this.version);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("ANALYZE TABLE reservations");
+        }
+
+        try (Statement statement = this.connection.createStatement();
+             ResultSet pageSplits = statement.executeQuery(
+                     "SELECT count FROM information_schema.INNODB_METRICS WHERE name = 'index_page_splits'")) {
+            pageSplits.next();
+            long splits = pageSplits.getLong(1);
+
+            try (ResultSet size = statement.executeQuery("""
+                    SELECT data_length, index_length FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = 'reservations'
+                    """)) {
+                size.next();
+                System.out.printf("%n[version=%s] rows=%d pageSplitsPer1000Rows=%.1f clusteredMiB=%d secondaryMiB=%d%n",
+                        this.version, this.inserted, splits * 1000.0 / this.inserted,
+                        size.getLong(1) >> 20, size.getLong(2) >> 20);
+            }
+        }
+
+        this.connection.close();
+        this.database.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertReservations() throws SQLException {
+        LocalDate startDate = LocalDate.now().plusDays(this.inserted % 365);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.insertReservation.setString(1, this.generator.generateUuid(null).toString());
+            this.insertReservation.setBigDecimal(2, BigDecimal.valueOf(360));
+            this.insertReservation.setDate(3, Date.valueOf(startDate));
+            this.insertReservation.setDate(4, Date.valueOf(startDate.plusDays(3)));
+            this.insertReservation.setTimestamp(5, now);
+            this.insertReservation.setTimestamp(6, now);
+            this.insertReservation.addBatch();
+        }
+        this.insertReservation.executeBatch();
+        this.connection.commit();
+        this.inserted += BATCH_SIZE;
+    }
+}
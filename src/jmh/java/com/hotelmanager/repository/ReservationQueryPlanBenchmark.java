@@ -0,0 +1,166 @@
+package com.hotelmanager.repository;
+
+import com.hotelmanager.EmbeddedMariaDb;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationQueryPlanBenchmark {
+
+    private static final String MIGRATION_BEFORE_INDEXES = "11";
+
+    private static final String SEED_RESERVATIONS = """
+            INSERT INTO reservations (uuid, first_name, last_name, email, phone, guests_count, reservation_status,
+                                      accommodation_coast, reservation_payment_type, start_date, end_date, is_deleted,
+                                      created_date_time, updated_date_time)
+            SELECT UUID(), 'Guest', CONCAT('No', s.seq), 'guest@hotelmanager.com', '+1234567890', 1 + s.seq % 4,
+                   ELT(1 + s.seq % 6, 'RESERVATION_REQUEST', 'RESERVATION_CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT',
+                       'CANCELED', 'REJECTED'),
+                   120 * (1 + s.seq % 14), 'FULL_PREPAY', s.start_date, s.start_date + INTERVAL 1 + s.seq % 14 DAY,
+                   s.seq % 50 = 0, NOW(6), NOW(6)
+            FROM (SELECT seq, CURRENT_DATE - INTERVAL 2555 DAY + INTERVAL seq * 7919 % 2920 DAY AS start_date
+                  FROM seq_1_to_1000000) s
+            """;
+
+    private static final String OVERLAPPING = """
+            SELECT r.uuid FROM reservations r
+            WHERE r.is_deleted = FALSE
+              AND r.reservation_status NOT IN ('CANCELED', 'REJECTED')
+              AND r.start_date < ? AND r.end_date > ?
+            """;
+    private static final String BETWEEN_DATES_PAGE = """
+            SELECT r.uuid, r.first_name, r.last_name, r.guests_count, r.reservation_status, r.start_date, r.end_date
+            FROM reservations r
+            WHERE r.start_date BETWEEN ? AND ? AND r.end_date <= ?
+            ORDER BY r.start_date
+            LIMIT 10 OFFSET 0
+            """;
+    private static final String BETWEEN_DATES_COUNT = """
+            SELECT COUNT(r.uuid) FROM reservations r
+            WHERE r.start_date BETWEEN ? AND ? AND r.end_date <= ?
+            """;
+    private static final String STATUS_PAGE = """
+            SELECT r.uuid, r.first_name, r.last_name, r.guests_count, r.reservation_status, r.start_date, r.end_date
+            FROM reservations r
+            WHERE r.reservation_status = ?
+            ORDER BY r.start_date, r.uuid
+            LIMIT 20
+            """;
+    private static final String SCROLL_PAGE = """
+            SELECT r.uuid, r.first_name, r.last_name, r.guests_count, r.reservation_status, r.start_date, r.end_date
+            FROM reservations r
+            WHERE r.start_date > ? OR (r.start_date = ? AND r.uuid > ?)
+            ORDER BY r.start_date, r.uuid
+            LIMIT 21
+            """;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private EmbeddedMariaDb database;
+    private Connection connection;
+    private PreparedStatement overlapping;
+    private PreparedStatement betweenDatesPage;
+    private PreparedStatement betweenDatesCount;
+    private PreparedStatement statusPage;
+    private PreparedStatement scrollPage;
+    private final Map<String, PreparedStatement> queryPlans = new LinkedHashMap<>();
+
+    @Setup
+    public void setup() throws Exception {
+        this.database = EmbeddedMariaDb.start(this.indexed ? "latest" : MIGRATION_BEFORE_INDEXES,
+                "--innodb-buffer-pool-size=1G");
+
+        this.connection = this.database.connect();
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute(SEED_RESERVATIONS);
+            statement.execute("ANALYZE TABLE reservations");
+        }
+
+        LocalDate today = LocalDate.now();
+        Date fromDate = Date.valueOf(today.minusDays(30));
+        Date toDate = Date.valueOf(today.plusDays(30));
+        this.overlapping = prepare("overlapping", OVERLAPPING, Date.valueOf(today.plusDays(7)), Date.valueOf(today));
+        this.betweenDatesPage = prepare("betweenDatesPage", BETWEEN_DATES_PAGE, fromDate, toDate, toDate);
+        this.betweenDatesCount = prepare("betweenDatesCount", BETWEEN_DATES_COUNT, fromDate, toDate, toDate);
+        this.statusPage = prepare("statusPage", STATUS_PAGE, "CHECKED_IN");
+        this.scrollPage = prepare("scrollPage", SCROLL_PAGE, Date.valueOf(today), Date.valueOf(today), "00000000-0000-0000-0000-000000000000");
+
+        printQueryPlans();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.connection.close();
+        this.database.stop();
+    }
+
+    @Benchmark
+    public void overlappingActiveReservations(Blackhole blackhole) throws SQLException {
+        consume(this.overlapping, blackhole);
+    }
+
+    @Benchmark
+    public void reservationsBetweenDatesPage(Blackhole blackhole) throws SQLException {
+        consume(this.betweenDatesPage, blackhole);
+    }
+
+    @Benchmark
+    public void reservationsBetweenDatesCount(Blackhole blackhole) throws SQLException {
+        consume(this.betweenDatesCount, blackhole);
+    }
+
+    @Benchmark
+    public void reservationsByStatusPage(Blackhole blackhole) throws SQLException {
+        consume(this.statusPage, blackhole);
+    }
+
+    @Benchmark
+    public void reservationsScrollPage(Blackhole blackhole) throws SQLException {
+        consume(this.scrollPage, blackhole);
+    }
+
+    private PreparedStatement prepare(String name, String sql, Object... parameters) throws SQLException {
+        this.queryPlans.put(name, bind(this.connection.prepareStatement("EXPLAIN " + sql), parameters));
+        return bind(this.connection.prepareStatement(sql), parameters);
+    }
+
+    private static PreparedStatement bind(PreparedStatement statement, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+        return statement;
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getObject(1));
+            }
+        }
+    }
+
+    private void printQueryPlans() throws SQLException {
+        System.out.println();
+        for (Map.Entry<String, PreparedStatement> plan : this.queryPlans.entrySet()) {
+            try (PreparedStatement statement = plan.getValue(); ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    System.out.printf("[indexed=%s] %-18s type=%-6s key=%-36s rows=%-8s extra=%s%n",
+                            this.indexed, plan.getKey(), resultSet.getString("type"), resultSet.getString("key"),
+                            resultSet.getString("rows"), resultSet.getString("Extra"));
+                }
+            }
+        }
+    }
+}
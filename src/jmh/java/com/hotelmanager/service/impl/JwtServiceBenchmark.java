@@ -0,0 +1,61 @@
+package com.hotelmanager.service.impl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "e4CIzj6jQe5F+E3C3Y4WCFg9xCScp+OJPNsAFy/NTnKppV3xRN6BzCn3XTGh/9lE22J4wY9ZxZzTr8K9u2yP3w==";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setup() {
+        this.jwtService = new JwtService(SECRET, 3_600_000);
+        this.userDetails = User.withUsername("benchmarkUser")
+                .password("password")
+                .roles("MANAGER")
+                .build();
+        this.token = this.jwtService.generateToken(this.userDetails);
+    }
+
+    @Benchmark
+    public boolean perCallKeyAndParser() {
+        String username = parsePerCall(this.token).getSubject();
+        return username.equals(this.userDetails.getUsername())
+                && parsePerCall(this.token).getSubject().equals(this.userDetails.getUsername())
+                && !parsePerCall(this.token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean cachedParserSingleParse() {
+        Claims claims = this.jwtService.parseClaims(this.token);
+        return this.jwtService.isTokenValid(claims, this.userDetails);
+    }
+
+    private static Claims parsePerCall(String token) {
+        SecretKey signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser()
+                .verifyWith(signingKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -2,9 +2,13 @@ package com.hotelmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableCaching
 @EnableFeignClients
+@EnableScheduling
 @SpringBootApplication
 public class HotelManagerApplication {
 
@@ -0,0 +1,51 @@
+package com.hotelmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableAsync
+@Configuration
+public class AsyncConfiguration {
+
+    @Bean
+    public AsyncTaskExecutor filesServiceExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("files-service-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(FilesServiceAuthorization.forwardingTaskDecorator());
+        return executor;
+    }
+
+    @Bean
+    public AsyncTaskExecutor filesServiceRefreshExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("files-service-refresh-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean
+    public AsyncTaskExecutor roomTypeImagesExecutor(@Value("${room-type.images.upload-concurrency:4}") int concurrency,
+                                                    @Value("${room-type.images.upload-queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("room-type-images-");
+        executor.setVirtualThreads(true);
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(FilesServiceAuthorization.forwardingTaskDecorator());
+        return executor;
+    }
+
+    @Bean
+    public AsyncTaskExecutor reservationPaymentsExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("reservation-payments-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(1);
+        executor.setRejectTasksWhenLimitReached(true);
+        return executor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hotelmanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static com.hotelmanager.service.impl.HotelUserDetailsService.USER_DETAILS_CACHE;
+import static com.hotelmanager.service.impl.PageTotalsCache.PAGE_TOTALS_CACHE;
+
+@Configuration
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userDetailsCacheCustomizer(
+            @Value("${security.user-details.cache.ttl:60s}") Duration ttl,
+            @Value("${security.user-details.cache.max-size:1000}") long maxSize) {
+
+        return cacheManager -> cacheManager.registerCustomCache(USER_DETAILS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build());
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> pageTotalsCacheCustomizer(
+            @Value("${pagination.totals-cache.ttl:30s}") Duration ttl,
+            @Value("${pagination.totals-cache.max-size:500}") long maxSize) {
+
+        return cacheManager -> cacheManager.registerCustomCache(PAGE_TOTALS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build());
+    }
+}
@@ -1,35 +1,57 @@
 package com.hotelmanager.config;
 
+import feign.Client;
+import feign.Request;
 import feign.RequestInterceptor;
 import feign.codec.Encoder;
 import feign.form.spring.SpringFormEncoder;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.http.HttpHeaders;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
 
-@Configuration
 public class FeignConfiguration {
 
+    private static final String TRANSPORT_PROPERTY = "files.service.http-client.transport";
+
     @Bean
-    public RequestInterceptor jwtForwardingInterceptor() {
-        return template -> {
-            RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-            if (attrs instanceof ServletRequestAttributes servletRequestAttributes) {
-                String authHeader = servletRequestAttributes.getRequest().getHeader("Authorization");
-                if (authHeader != null && !authHeader.isBlank()) {
-                    template.header("Authorization", authHeader);
-                }
-            }
-        };
+    public RequestInterceptor authorizationInterceptor(FilesServiceAuthorization filesServiceAuthorization) {
+        return template -> filesServiceAuthorization.authorizationHeader()
+                .ifPresent(authHeader -> template.header(HttpHeaders.AUTHORIZATION, authHeader));
     }
 
     @Bean
     public Encoder feignFormEncoder(ObjectFactory<HttpMessageConverters> messageConverters) {
         return new SpringFormEncoder(new SpringEncoder(messageConverters));
     }
+
+    @Bean
+    public Request.Options feignRequestOptions(FilesServiceHttpClientProperties properties) {
+        return new Request.Options(properties.connectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                properties.readTimeout().toMillis(), TimeUnit.MILLISECONDS, true);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_PROPERTY, havingValue = "pooled")
+    public Client pooledFeignClient(CloseableHttpClient filesServiceHttpClient) {
+        return new ApacheHttp5Client(filesServiceHttpClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_PROPERTY, havingValue = "http2")
+    public Client http2FeignClient(FilesServiceHttpClientProperties properties) {
+        return new Http2Client(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build());
+    }
 }
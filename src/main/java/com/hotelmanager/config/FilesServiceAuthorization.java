@@ -0,0 +1,81 @@
+package com.hotelmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class FilesServiceAuthorization {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final ThreadLocal<String> FORWARDED_AUTHORIZATION = new ThreadLocal<>();
+
+    private final String serviceAuthorization;
+
+    public FilesServiceAuthorization(@Value("${files.service.auth.service-token:}") String serviceToken) {
+        this.serviceAuthorization = serviceToken.isBlank() ? null : BEARER_PREFIX + serviceToken;
+        if (this.serviceAuthorization == null) {
+            log.warn("files.service.auth.service-token is not set, background files service calls are sent without credentials");
+        }
+    }
+
+    public Optional<String> authorizationHeader() {
+        return Optional.ofNullable(callerAuthorization())
+                .or(() -> Optional.ofNullable(this.serviceAuthorization));
+    }
+
+    public boolean hasServiceAuthorization() {
+        return this.serviceAuthorization != null;
+    }
+
+    public void runAsService(Runnable task) {
+        String previous = FORWARDED_AUTHORIZATION.get();
+        FORWARDED_AUTHORIZATION.set(this.serviceAuthorization);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                FORWARDED_AUTHORIZATION.remove();
+            } else {
+                FORWARDED_AUTHORIZATION.set(previous);
+            }
+        }
+    }
+
+    public static TaskDecorator forwardingTaskDecorator() {
+        return task -> {
+            String authorization = callerAuthorization();
+            return () -> {
+                FORWARDED_AUTHORIZATION.set(authorization);
+                try {
+                    task.run();
+                } finally {
+                    FORWARDED_AUTHORIZATION.remove();
+                }
+            };
+        };
+    }
+
+    private static String callerAuthorization() {
+        String forwarded = FORWARDED_AUTHORIZATION.get();
+        if (forwarded != null) {
+            return forwarded;
+        }
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes servletRequestAttributes) {
+            String authHeader = servletRequestAttributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader != null && !authHeader.isBlank()) {
+                return authHeader;
+            }
+        }
+
+        return null;
+    }
+}
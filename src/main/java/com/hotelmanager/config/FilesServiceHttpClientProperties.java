@@ -0,0 +1,23 @@
+package com.hotelmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("files.service.http-client")
+public record FilesServiceHttpClientProperties(
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("10s") Duration readTimeout,
+        @DefaultValue("200") int maxConnections,
+        @DefaultValue("50") int maxConnectionsPerRoute,
+        @DefaultValue("5m") Duration timeToLive,
+        @DefaultValue("30s") Duration idleTimeout,
+        @DefaultValue("default") Transport transport) {
+
+    public enum Transport {
+        DEFAULT,
+        POOLED,
+        HTTP2
+    }
+}
@@ -1,13 +1,18 @@
 package com.hotelmanager.config;
 
 import com.hotelmanager.service.impl.JwtService;
+import com.hotelmanager.service.impl.JwtUserPrincipal;
+import com.hotelmanager.service.impl.UserDenyList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,6 +21,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +31,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserDenyList userDenyList;
+
+    @Value("${security.jwt.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -32,7 +44,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
+        final Claims claims;
         final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -40,26 +52,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        jwt = authHeader.substring(7);
-        username = this.jwtService.extractUsername(jwt);
+        claims = this.jwtService.parseClaims(authHeader.substring(7));
+        username = claims.getSubject();
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            if (this.jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            Optional<UUID> userId = this.jwtService.extractUserId(claims);
+
+            if (this.stateless && userId.isPresent()) {
+                authenticateFromClaims(request, claims, userId.get(), username);
+            } else {
+                authenticateFromUserDetails(request, claims, username);
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticateFromClaims(HttpServletRequest request, Claims claims, UUID userId, String username) {
+        if (this.userDenyList.isDenied(userId)) {
+            return;
+        }
+
+        setAuthentication(request, new JwtUserPrincipal(userId, username), this.jwtService.extractAuthorities(claims));
+    }
+
+    private void authenticateFromUserDetails(HttpServletRequest request, Claims claims, String username) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+
+        if (this.jwtService.isTokenValid(claims, userDetails)) {
+            setAuthentication(request, userDetails, userDetails.getAuthorities());
+        }
+    }
+
+    private static void setAuthentication(HttpServletRequest request, Object principal, Collection<? extends GrantedAuthority> authorities) {
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        authorities
+                );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -0,0 +1,16 @@
+package com.hotelmanager.event;
+
+import com.hotelmanager.service.impl.StagedMultipartFile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class RoomTypeImagesStagedEvent {
+
+    private final UUID roomTypeId;
+    private final List<StagedMultipartFile> images;
+}
@@ -27,4 +27,9 @@ public final class ExceptionMessages {
     public static final String PAYMENT_NOT_FOUND = "No payment found by the provided id!";
 
     public static final String INVALID_RESERVATION_PAYMENT_TYPE = "Unsupported payment type: %s";
+
+    public static final String INVALID_CURSOR = "Invalid pagination cursor provided!";
+    public static final String INVALID_SCROLL_SIZE = "Page size must be between 1 and %d!";
+
+    public static final String FILES_SERVICE_UNAVAILABLE = "Files service is currently unavailable!";
 }
@@ -163,6 +163,13 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ExceptionErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        log.error("Invalid pagination cursor! ", ex);
+
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     @ExceptionHandler(RoomNotFoundException.class)
     public ResponseEntity<ExceptionErrorResponse> handleRoomNotFoundException(RoomNotFoundException ex) {
         log.error("Room with provided id not found! ", ex);
@@ -170,6 +177,13 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    @ExceptionHandler(FilesServiceUnavailableException.class)
+    public ResponseEntity<ExceptionErrorResponse> handleFilesServiceUnavailableException(FilesServiceUnavailableException ex) {
+        log.error("Files service unavailable! ", ex);
+
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionErrorResponse> handleAllExceptions(Exception ex) {
         log.error("Unhandled exception caught: ", ex);
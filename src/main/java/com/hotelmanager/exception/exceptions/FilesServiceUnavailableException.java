@@ -0,0 +1,7 @@
+package com.hotelmanager.exception.exceptions;
+
+public class FilesServiceUnavailableException extends RuntimeException {
+    public FilesServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.model.dto.response.PaymentResponseDto;
+import com.hotelmanager.model.entity.Payment;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface PaymentMapper {
+
+    @Mapping(target = "reservationUUID", source = "reservation.uuid")
+    @Mapping(target = "roomNumber", source = "room.roomNumber")
+    PaymentResponseDto toResponseDto(Payment payment);
+}
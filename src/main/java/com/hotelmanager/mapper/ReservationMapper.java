@@ -0,0 +1,34 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.model.dto.response.ReservationDetailsDto;
+import com.hotelmanager.model.dto.response.ReservationPageResponseDto;
+import com.hotelmanager.model.dto.response.ReservationPaymentDto;
+import com.hotelmanager.model.dto.response.ReservationRoomDto;
+import com.hotelmanager.model.dto.response.ReservationRoomTypeDto;
+import com.hotelmanager.model.entity.Payment;
+import com.hotelmanager.model.entity.Reservation;
+import com.hotelmanager.model.entity.ReservationRoomType;
+import com.hotelmanager.model.entity.Room;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ReservationMapper {
+
+    @Mapping(target = "reservationCoast", ignore = true)
+    @Mapping(target = "payedAmount", ignore = true)
+    @Mapping(target = "pendingAmount", ignore = true)
+    ReservationDetailsDto toDetailsDto(Reservation reservation);
+
+    ReservationPageResponseDto toPageResponseDto(Reservation reservation);
+
+    @Mapping(target = "roomTypeName", source = "roomType.name")
+    ReservationRoomTypeDto toRoomTypeDto(ReservationRoomType reservationRoomType);
+
+    @Mapping(target = "roomType", source = "roomType.name")
+    ReservationRoomDto toRoomDto(Room room);
+
+    @Mapping(target = "roomId", source = "room.uuid")
+    ReservationPaymentDto toPaymentDto(Payment payment);
+}
@@ -0,0 +1,12 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.model.dto.response.RoleDto;
+import com.hotelmanager.model.entity.Role;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface RoleMapper {
+
+    RoleDto toDto(Role role);
+}
@@ -0,0 +1,21 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.model.dto.feign.RoomPhotoDto;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.model.dto.response.RoomPhotoSummaryDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface RoomPhotoMapper {
+
+    RoomPhotoSummaryDto toSummaryDto(RoomPhotoDto photo);
+
+    RoomPhotoSummaryDto toSummaryDto(RoomTypePhotoDto photo);
+
+    List<RoomPhotoSummaryDto> toRoomPhotoSummaries(List<RoomPhotoDto> photos);
+
+    List<RoomPhotoSummaryDto> toRoomTypePhotoSummaries(List<RoomTypePhotoDto> photos);
+}
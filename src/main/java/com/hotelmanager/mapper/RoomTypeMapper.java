@@ -0,0 +1,25 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.model.dto.response.ImageResponseDto;
+import com.hotelmanager.model.dto.response.RoomTypeDto;
+import com.hotelmanager.model.dto.response.RoomTypesPreview;
+import com.hotelmanager.model.entity.RoomType;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface RoomTypeMapper {
+
+    @Mapping(target = "images", ignore = true)
+    RoomTypeDto toDto(RoomType roomType);
+
+    RoomTypesPreview toPreview(RoomType roomType);
+
+    ImageResponseDto toImageDto(RoomTypePhotoDto photo);
+
+    List<ImageResponseDto> toImageDtos(List<RoomTypePhotoDto> photos);
+}
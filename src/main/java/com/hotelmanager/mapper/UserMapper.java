@@ -0,0 +1,21 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.model.dto.response.ProfileDto;
+import com.hotelmanager.model.dto.response.UserDetailsDto;
+import com.hotelmanager.model.dto.response.UserPageDto;
+import com.hotelmanager.model.entity.User;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = RoleMapper.class, injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface UserMapper {
+
+    ProfileDto toProfileDto(User user);
+
+    @Mapping(target = "isEnabled", source = "enabled")
+    UserPageDto toPageDto(User user);
+
+    UserDetailsDto toDetailsDto(User user);
+}
@@ -0,0 +1,11 @@
+package com.hotelmanager.model.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record RoomTypeBookedNight(
+        UUID roomTypeId,
+        LocalDate stayDate,
+        int booked
+) {
+}
@@ -0,0 +1,9 @@
+package com.hotelmanager.model.dto;
+
+import java.util.UUID;
+
+public record RoomTypeRoomsCount(
+        UUID roomTypeId,
+        long roomsCount
+) {
+}
@@ -0,0 +1,11 @@
+package com.hotelmanager.model.dto.response;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> records,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {}
@@ -1,6 +1,5 @@
 package com.hotelmanager.model.dto.response;
 
-import com.hotelmanager.model.entity.RoomType;
 import lombok.*;
 
 import java.util.UUID;
@@ -14,5 +13,5 @@ public class ReservationRoomDto {
 
     private UUID uuid;
     private String roomNumber;
-    private RoomType roomType;
+    private String roomType;
 }
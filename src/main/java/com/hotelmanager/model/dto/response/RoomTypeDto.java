@@ -1,5 +1,6 @@
 package com.hotelmanager.model.dto.response;
 
+import com.hotelmanager.model.enums.ImageUploadStatus;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -18,5 +19,6 @@ public class RoomTypeDto {
     private BigDecimal basePricePerNight;
     private int capacity;
     private String description;
+    private ImageUploadStatus imageStatus;
     private List<ImageResponseDto> images;
 }
@@ -1,9 +1,9 @@
 package com.hotelmanager.model.entity;
 
+import com.hotelmanager.model.entity.id.GeneratedUuid;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
@@ -12,6 +12,6 @@ import java.util.UUID;
 public abstract class BaseUUIDEntity {
 
     @Id
-    @UuidGenerator
+    @GeneratedUuid
     private UUID uuid;
 }
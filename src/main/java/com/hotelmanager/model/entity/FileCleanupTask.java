@@ -0,0 +1,44 @@
+package com.hotelmanager.model.entity;
+
+import com.hotelmanager.model.enums.FileCleanupStatus;
+import com.hotelmanager.model.enums.FileCleanupType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "file_cleanup_outbox")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileCleanupTask extends BaseUUIDEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cleanup_type", nullable = false)
+    private FileCleanupType cleanupType;
+
+    @Column(name = "resource_id", nullable = false)
+    private UUID resourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private FileCleanupStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_date_time", nullable = false, updatable = false)
+    private LocalDateTime createdDateTime;
+}
@@ -74,7 +74,7 @@ public class Reservation extends BaseUUIDEntity {
     @Column(name = "created_date_time", nullable = false, updatable = false)
     private LocalDateTime createdDateTime;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", referencedColumnName = "uuid")
     private User createdBy;
 
@@ -82,7 +82,7 @@ public class Reservation extends BaseUUIDEntity {
     @Column(name = "updated_date_time", nullable = false, updatable = false)
     private LocalDateTime updatedDateTime;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "updated_by", referencedColumnName = "uuid")
     private User updatedBy;
 }
@@ -0,0 +1,43 @@
+package com.hotelmanager.model.entity;
+
+import com.hotelmanager.model.enums.ReservationPaymentType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "reservation_payment_outbox")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationPaymentTask extends BaseUUIDEntity {
+
+    @Column(name = "reservation_id", nullable = false)
+    private UUID reservationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_payment_type", nullable = false)
+    private ReservationPaymentType reservationPaymentType;
+
+    @Column(name = "accommodation_coast", nullable = false)
+    private BigDecimal accommodationCoast;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_date_time", nullable = false, updatable = false)
+    private LocalDateTime createdDateTime;
+}
@@ -1,7 +1,11 @@
 package com.hotelmanager.model.entity;
 
+import com.hotelmanager.model.enums.ImageUploadStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,6 +14,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "room_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room-types")
 @Getter
 @Setter
 @Builder
@@ -29,6 +35,12 @@ public class RoomType extends BaseUUIDEntity {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'NONE'")
+    @Column(name = "image_status", nullable = false)
+    private ImageUploadStatus imageStatus = ImageUploadStatus.NONE;
+
     @CreationTimestamp
     @Column(name = "created_date_time", updatable = false)
     private LocalDateTime createdDateTime;
@@ -0,0 +1,26 @@
+package com.hotelmanager.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+
+@Entity
+@Table(name = "room_type_inventory")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomTypeInventory {
+
+    @EmbeddedId
+    private RoomTypeInventoryId id;
+
+    @Column(name = "total", nullable = false)
+    private int total;
+
+    @Column(name = "booked", nullable = false)
+    private int booked;
+}
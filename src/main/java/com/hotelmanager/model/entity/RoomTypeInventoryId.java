@@ -0,0 +1,24 @@
+package com.hotelmanager.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RoomTypeInventoryId implements Serializable {
+
+    @Column(name = "room_type_id", nullable = false)
+    private UUID roomTypeId;
+
+    @Column(name = "stay_date", nullable = false)
+    private LocalDate stayDate;
+}
@@ -0,0 +1,49 @@
+package com.hotelmanager.model.entity.id;
+
+import com.hotelmanager.model.enums.UuidVersion;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.id.uuid.StandardRandomStrategy;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+public class ConfigurableUuidGenerator implements BeforeExecutionGenerator {
+
+    public static final String UUID_VERSION_SETTING = "hotelmanager.id.uuid-version";
+
+    private static final UuidValueGenerator TIME_ORDERED = new UuidV7Generator();
+
+    private final UuidValueGenerator valueGenerator;
+
+    public ConfigurableUuidGenerator(GeneratedUuid config, Member member, CustomIdGeneratorCreationContext context) {
+        Object version = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .getOrDefault(UUID_VERSION_SETTING, UuidVersion.V7.name());
+
+        this.valueGenerator = valueGenerator(UuidVersion.valueOf(version.toString().trim().toUpperCase()));
+    }
+
+    public static UuidValueGenerator valueGenerator(UuidVersion version) {
+        return switch (version) {
+            case V4 -> StandardRandomStrategy.INSTANCE;
+            case V7 -> TIME_ORDERED;
+        };
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return this.valueGenerator.generateUuid(session);
+    }
+}
@@ -0,0 +1,32 @@
+package com.hotelmanager.model.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long timestampAndCounter = this.lastTimestampAndCounter.updateAndGet(last -> Math.max(last + 1, now));
+
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION
+                | (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+        long leastSignificantBits = this.random.nextLong() & RANDOM_MASK | VARIANT;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
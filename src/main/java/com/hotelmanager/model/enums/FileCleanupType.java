@@ -0,0 +1,5 @@
+package com.hotelmanager.model.enums;
+
+public enum FileCleanupType {
+    ROOM_PHOTOS
+}
@@ -0,0 +1,8 @@
+package com.hotelmanager.model.enums;
+
+public enum ImageUploadStatus {
+    NONE,
+    PENDING,
+    UPLOADED,
+    FAILED
+}
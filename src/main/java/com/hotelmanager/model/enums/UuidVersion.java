@@ -0,0 +1,6 @@
+package com.hotelmanager.model.enums;
+
+public enum UuidVersion {
+    V4,
+    V7
+}
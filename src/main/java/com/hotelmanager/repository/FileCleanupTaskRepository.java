@@ -0,0 +1,33 @@
+package com.hotelmanager.repository;
+
+import com.hotelmanager.model.entity.FileCleanupTask;
+import com.hotelmanager.model.enums.FileCleanupStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface FileCleanupTaskRepository extends JpaRepository<FileCleanupTask, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT t FROM FileCleanupTask t
+            WHERE t.status = :status
+              AND t.nextAttemptAt <= :now
+            ORDER BY t.nextAttemptAt
+            """)
+    List<FileCleanupTask> findDueForUpdate(@Param("status") FileCleanupStatus status,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+}
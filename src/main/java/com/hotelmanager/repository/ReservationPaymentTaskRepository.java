@@ -0,0 +1,45 @@
+package com.hotelmanager.repository;
+
+import com.hotelmanager.model.entity.ReservationPaymentTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ReservationPaymentTaskRepository extends JpaRepository<ReservationPaymentTask, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT t FROM ReservationPaymentTask t
+            WHERE t.nextAttemptAt <= :now
+              AND t.attempts < :maxAttempts
+            ORDER BY t.nextAttemptAt
+            """)
+    List<ReservationPaymentTask> findDueForUpdate(@Param("now") LocalDateTime now,
+                                                  @Param("maxAttempts") int maxAttempts,
+                                                  Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT t FROM ReservationPaymentTask t
+            WHERE t.uuid = :uuid
+              AND t.nextAttemptAt <= :now
+              AND t.attempts < :maxAttempts
+            """)
+    Optional<ReservationPaymentTask> findDueByIdForUpdate(@Param("uuid") UUID uuid,
+                                                          @Param("now") LocalDateTime now,
+                                                          @Param("maxAttempts") int maxAttempts);
+}
@@ -1,13 +1,17 @@
 package com.hotelmanager.repository;
 
 import com.hotelmanager.model.entity.Reservation;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, UUID>, JpaSpecificationExecutor<Reservation> {
 
+    @EntityGraph(attributePaths = {"roomTypes.roomType", "rooms.roomType"})
+    Optional<Reservation> findWithDetailsByUuid(UUID uuid);
 }
@@ -1,14 +1,33 @@
 package com.hotelmanager.repository;
 
+import com.hotelmanager.model.dto.RoomTypeRoomsCount;
 import com.hotelmanager.model.entity.Room;
+import com.hotelmanager.model.enums.RoomStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, UUID>, JpaSpecificationExecutor<Room> {
 
     boolean existsByRoomNumber(String roomNumber);
+
+    @EntityGraph(attributePaths = "roomType")
+    Optional<Room> findWithRoomTypeByUuid(UUID uuid);
+
+    long countByRoomTypeUuidAndRoomStatusNot(UUID roomTypeId, RoomStatus roomStatus);
+
+    @Query("""
+            SELECT new com.hotelmanager.model.dto.RoomTypeRoomsCount(r.roomType.uuid, COUNT(r))
+            FROM Room r
+            WHERE r.roomStatus <> com.hotelmanager.model.enums.RoomStatus.UNDER_CONSTRUCTION
+            GROUP BY r.roomType.uuid
+            """)
+    List<RoomTypeRoomsCount> countBookableRoomsByType();
 }
@@ -0,0 +1,69 @@
+package com.hotelmanager.repository;
+
+import com.hotelmanager.model.dto.RoomTypeBookedNight;
+import com.hotelmanager.model.entity.RoomTypeInventory;
+import com.hotelmanager.model.entity.RoomTypeInventoryId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RoomTypeInventoryRepository extends JpaRepository<RoomTypeInventory, RoomTypeInventoryId> {
+
+    @Query("""
+            SELECT COUNT(i)
+            FROM RoomTypeInventory i
+            WHERE i.id.roomTypeId = :roomTypeId
+              AND i.id.stayDate >= :startDate
+              AND i.id.stayDate < :endDate
+            """)
+    long countStayRange(UUID roomTypeId, LocalDate startDate, LocalDate endDate);
+
+    List<RoomTypeInventory> findByIdStayDateGreaterThanEqual(LocalDate stayDate);
+
+    @Query("""
+            SELECT new com.hotelmanager.model.dto.RoomTypeBookedNight(i.id.roomTypeId, i.id.stayDate, i.booked)
+            FROM RoomTypeInventory i
+            WHERE i.id.roomTypeId IN :roomTypeIds
+              AND i.id.stayDate >= :startDate
+              AND i.id.stayDate < :endDate
+            """)
+    List<RoomTypeBookedNight> findBookedNights(Collection<UUID> roomTypeIds, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "room_type_inventory"))
+    @Query(value = """
+            INSERT IGNORE INTO room_type_inventory (room_type_id, stay_date, total, booked)
+            VALUES (:roomTypeId, :stayDate, :total, 0)
+            """, nativeQuery = true)
+    void insertNightIfAbsent(UUID roomTypeId, LocalDate stayDate, int total);
+
+    @Modifying
+    @Query("""
+            UPDATE RoomTypeInventory i
+            SET i.booked = i.booked + :rooms
+            WHERE i.id.roomTypeId = :roomTypeId
+              AND i.id.stayDate >= :startDate
+              AND i.id.stayDate < :endDate
+              AND i.total - i.booked >= :rooms
+            """)
+    int bookNights(UUID roomTypeId, LocalDate startDate, LocalDate endDate, int rooms);
+
+    @Modifying
+    @Query("""
+            UPDATE RoomTypeInventory i
+            SET i.total = i.total + :delta
+            WHERE i.id.roomTypeId = :roomTypeId
+              AND i.id.stayDate >= :fromDate
+            """)
+    void adjustTotal(UUID roomTypeId, LocalDate fromDate, int delta);
+}
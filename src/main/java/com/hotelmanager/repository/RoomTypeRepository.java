@@ -2,7 +2,9 @@ package com.hotelmanager.repository;
 
 import com.hotelmanager.model.dto.RoomTypeAvailability;
 import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.enums.ImageUploadStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -16,41 +18,40 @@ public interface RoomTypeRepository extends JpaRepository<RoomType, UUID> {
 
     @Query(value = """
             SELECT
-                rt.name as room_type_names,
+                rt.name AS room_type_names,
                 COALESCE(br.total_rooms, 0) AS total_rooms,
-                rt.total_reservations_by_room_type as booked_rooms,
-                COALESCE(total_rooms - rt.total_reservations_by_room_type, 0) as available_rooms
-            FROM
-                (
-                    SELECT
-                        rt.uuid,
-                        rt.name,
-                        COUNT(r.uuid) AS total_reservations_by_room_type
-                    FROM room_types rt
-                             LEFT JOIN reservations_room_types rrt
-                                       ON rt.uuid = rrt.room_type_id
-                             LEFT JOIN reservations r
-                                       ON rrt.reservation_id = r.uuid
-                                           AND r.is_deleted = FALSE
-                                           AND r.reservation_status NOT IN ('CANCELED', 'REJECTED')
-                                           AND r.start_date < :endDate
-                                           AND r.end_date > :startDate
-                    GROUP BY rt.uuid, rt.name
-                ) rt
-                    LEFT JOIN
-                (
-                    SELECT
-                        r.room_type_id,
-                        COUNT(*) AS total_rooms
-                    FROM rooms r
-                    where r.room_status NOT IN ('UNDER_CONSTRUCTION')
-                    GROUP BY r.room_type_id
-                ) br
-                ON rt.uuid = br.room_type_id;
-            """,nativeQuery = true)
+                COALESCE(inv.booked_rooms, 0) AS booked_rooms,
+                COALESCE(br.total_rooms, 0) - COALESCE(inv.booked_rooms, 0) AS available_rooms
+            FROM room_types rt
+                     LEFT JOIN
+                 (
+                     SELECT
+                         i.room_type_id,
+                         MAX(i.booked) AS booked_rooms
+                     FROM room_type_inventory i
+                     WHERE i.stay_date >= :startDate
+                       AND i.stay_date < :endDate
+                     GROUP BY i.room_type_id
+                 ) inv
+                 ON rt.uuid = inv.room_type_id
+                     LEFT JOIN
+                 (
+                     SELECT
+                         r.room_type_id,
+                         COUNT(*) AS total_rooms
+                     FROM rooms r
+                     WHERE r.room_status NOT IN ('UNDER_CONSTRUCTION')
+                     GROUP BY r.room_type_id
+                 ) br
+                 ON rt.uuid = br.room_type_id
+            """, nativeQuery = true)
     List<RoomTypeAvailability> availableRoomsByType(LocalDate startDate, LocalDate endDate);
 
     Optional<RoomType> getByName(String name);
 
     boolean existsByName(String name);
+
+    @Modifying
+    @Query("UPDATE RoomType r SET r.imageStatus = :status WHERE r.uuid = :id")
+    int updateImageStatus(UUID id, ImageUploadStatus status);
 }
@@ -1,10 +1,16 @@
 package com.hotelmanager.repository;
 
 import com.hotelmanager.model.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -12,7 +18,12 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByUsername(String username);
 
+    Window<User> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.uuid FROM User u WHERE u.isEnabled = false")
+    Set<UUID> findDisabledUserIds();
 }
@@ -0,0 +1,20 @@
+package com.hotelmanager.service;
+
+import com.hotelmanager.model.entity.FileCleanupTask;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface FileCleanupOutboxService {
+
+    void enqueueRoomPhotos(UUID roomId);
+
+    List<FileCleanupTask> claimDueTasks();
+
+    void complete(Collection<UUID> taskIds);
+
+    void reschedule(UUID taskId, String error);
+
+    void fail(UUID taskId, String error);
+}
@@ -8,10 +8,13 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "${files.service.name}", url = "${files.service.url}",
-        path = "${files.service.path}", configuration = FeignConfiguration.class)
+        path = "${files.service.path}", configuration = FeignConfiguration.class,
+        primary = false, qualifiers = "filesServiceClient")
 public interface FilesService {
 
     @PostMapping("/create-file")
@@ -38,6 +41,9 @@ public interface FilesService {
     @GetMapping("/room-type/{roomTypeId}")
     List<RoomTypePhotoDto> getPhotosByRoomType(@PathVariable String roomTypeId);
 
+    @GetMapping("/room-type")
+    Map<String, List<RoomTypePhotoDto>> getPhotosByRoomTypes(@RequestParam("roomTypeIds") Collection<String> roomTypeIds);
+
     @DeleteMapping("/room-type/{publicId}")
     void getRoomTypePhotoById(@PathVariable String publicId);
 
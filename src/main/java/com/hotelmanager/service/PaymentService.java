@@ -3,7 +3,9 @@ package com.hotelmanager.service;
 import com.hotelmanager.model.dto.request.PaymentCreationDto;
 import com.hotelmanager.model.dto.response.PaymentMenus;
 import com.hotelmanager.model.dto.response.PaymentResponseDto;
+import com.hotelmanager.model.entity.ReservationPaymentTask;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public interface PaymentService {
@@ -13,4 +15,6 @@ public interface PaymentService {
     PaymentMenus getPaymentMenus();
 
     PaymentResponseDto getPaymentById(String id);
+
+    void createReservationPayments(Collection<ReservationPaymentTask> tasks);
 }
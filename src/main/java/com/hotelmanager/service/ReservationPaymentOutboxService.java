@@ -0,0 +1,10 @@
+package com.hotelmanager.service;
+
+import com.hotelmanager.event.ReservationCreatedEvent;
+
+public interface ReservationPaymentOutboxService {
+
+    void enqueue(ReservationCreatedEvent event);
+
+    int processPending();
+}
@@ -1,6 +1,7 @@
 package com.hotelmanager.service;
 
 import com.hotelmanager.model.dto.request.ReservationCreationDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.ReservationDetailsDto;
 import com.hotelmanager.model.dto.response.ReservationPageResponseDto;
 import com.hotelmanager.model.entity.Reservation;
@@ -17,7 +18,11 @@ public interface ReservationService {
 
     Reservation getReservationEntity(String reservationId);
 
+    Reservation getReference(UUID id);
+
     ReservationDetailsDto getReservationById(String id);
 
     Page<ReservationPageResponseDto> getAllReservations(Optional<ReservationStatus> status, Optional<LocalDate> fromDate, Optional<LocalDate> toDate, String sortBy, String direction, int page, int size);
+
+    CursorPageResponse<ReservationPageResponseDto> scrollReservations(Optional<ReservationStatus> status, Optional<LocalDate> fromDate, Optional<LocalDate> toDate, Optional<String> cursor, int size, boolean includeTotal);
 }
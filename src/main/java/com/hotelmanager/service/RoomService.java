@@ -2,6 +2,7 @@ package com.hotelmanager.service;
 
 import com.hotelmanager.model.dto.request.RoomCreationDto;
 import com.hotelmanager.model.dto.request.RoomUpdateDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.RoomPageResponseDto;
 import com.hotelmanager.model.dto.response.RoomResponseDto;
 import com.hotelmanager.model.entity.Room;
@@ -22,6 +23,8 @@ public interface RoomService {
 
     Page<RoomPageResponseDto> getAllRooms(Optional<UUID> roomType, Optional<RoomStatus> roomStatus, Pageable pageable);
 
+    CursorPageResponse<RoomPageResponseDto> scrollRooms(Optional<UUID> roomType, Optional<RoomStatus> roomStatus, Optional<String> cursor, int size, boolean includeTotal);
+
     Room getRoomEntityById(String roomId);
 
     void deleteRoomById(String id);
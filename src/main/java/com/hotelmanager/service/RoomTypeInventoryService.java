@@ -0,0 +1,17 @@
+package com.hotelmanager.service;
+
+import com.hotelmanager.model.entity.ReservationRoomType;
+import com.hotelmanager.model.enums.RoomStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface RoomTypeInventoryService {
+
+    void reserve(LocalDate startDate, LocalDate endDate, Collection<ReservationRoomType> roomTypes);
+
+    void roomAdded(UUID roomTypeId, RoomStatus roomStatus);
+
+    void roomRemoved(UUID roomTypeId, RoomStatus roomStatus);
+}
@@ -5,11 +5,14 @@ import com.hotelmanager.model.dto.request.RoomTypeCreationDto;
 import com.hotelmanager.model.dto.response.RoomTypeDto;
 import com.hotelmanager.model.dto.response.RoomTypesPreview;
 import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.enums.ImageUploadStatus;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 public interface RoomTypeService {
 
@@ -17,9 +20,15 @@ public interface RoomTypeService {
 
     RoomType getEntityByName(String name);
 
+    Map<String, RoomType> getEntitiesByNames(Collection<String> names);
+
+    RoomType getReference(UUID id);
+
     Map<String, RoomTypeAvailability> roomTypeAvailabilitiesMap(LocalDate startDate, LocalDate endDate);
 
     List<RoomTypeDto> getAllTypes();
 
     List<RoomTypesPreview> getTypesPreview();
+
+    void updateImageStatus(UUID roomTypeId, ImageUploadStatus status);
 }
@@ -2,6 +2,7 @@ package com.hotelmanager.service;
 
 import com.hotelmanager.model.dto.request.ProfilePasswordDto;
 import com.hotelmanager.model.dto.request.UserDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.ProfileDto;
 import com.hotelmanager.model.dto.response.UserDetailsDto;
 import com.hotelmanager.model.dto.response.UserPageDto;
@@ -9,6 +10,7 @@ import com.hotelmanager.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface UserService {
@@ -21,6 +23,8 @@ public interface UserService {
 
     Page<UserPageDto> getAllUsers(Pageable pageable);
 
+    CursorPageResponse<UserPageDto> scrollUsers(Optional<String> cursor, int size, boolean includeTotal);
+
     UserDetailsDto getUserById(String id);
 
     void updateProfilePassword(ProfilePasswordDto passwordDto);
@@ -30,4 +34,6 @@ public interface UserService {
     void deactivateUser(String id);
 
     User getAuthenticationUser();
+
+    User getAuthenticationUserReference();
 }
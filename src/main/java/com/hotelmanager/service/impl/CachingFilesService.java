@@ -0,0 +1,129 @@
+package com.hotelmanager.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.hotelmanager.model.dto.feign.RoomPhotoDto;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.service.FilesService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Primary
+@Component
+public class CachingFilesService implements FilesService {
+
+    private final FilesService delegate;
+    private final LoadingCache<String, List<RoomPhotoDto>> photosByRoom;
+    private final LoadingCache<String, List<RoomTypePhotoDto>> photosByRoomType;
+
+    public CachingFilesService(@Qualifier("resilientFilesService") FilesService delegate,
+                               AsyncTaskExecutor filesServiceRefreshExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${files.service.photos-cache.ttl:10m}") Duration ttl,
+                               @Value("${files.service.photos-cache.refresh-after:1m}") Duration refreshAfter,
+                               @Value("${files.service.photos-cache.max-size:1000}") long maxSize) {
+        this.delegate = delegate;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refreshAfter)
+                .executor(filesServiceRefreshExecutor)
+                .recordStats();
+
+        this.photosByRoom = CaffeineCacheMetrics.monitor(meterRegistry,
+                builder.build(roomId -> List.copyOf(delegate.getPhotosByRoom(roomId))), "photosByRoom");
+        this.photosByRoomType = CaffeineCacheMetrics.monitor(meterRegistry,
+                builder.build(roomTypeId -> List.copyOf(delegate.getPhotosByRoomType(roomTypeId))), "photosByRoomType");
+    }
+
+    @Override
+    public void createFile() {
+        this.delegate.createFile();
+    }
+
+    @Override
+    public RoomPhotoDto uploadPhotos(List<MultipartFile> files, String roomId, String roomTypeId) {
+        try {
+            return this.delegate.uploadPhotos(files, roomId, roomTypeId);
+        } finally {
+            this.photosByRoom.invalidate(roomId);
+        }
+    }
+
+    @Override
+    public List<RoomPhotoDto> getPhotosByRoom(String roomId) {
+        return this.photosByRoom.get(roomId);
+    }
+
+    @Override
+    public void deletePhoto(String publicId) {
+        try {
+            this.delegate.deletePhoto(publicId);
+        } finally {
+            this.photosByRoom.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deletePhotoByRoom(String roomId) {
+        try {
+            this.delegate.deletePhotoByRoom(roomId);
+        } finally {
+            this.photosByRoom.invalidate(roomId);
+        }
+    }
+
+    @Override
+    public List<RoomTypePhotoDto> uploadRoomTypeImages(String roomTypeId, MultipartFile[] images) {
+        try {
+            return this.delegate.uploadRoomTypeImages(roomTypeId, images);
+        } finally {
+            this.photosByRoomType.invalidate(roomTypeId);
+        }
+    }
+
+    @Override
+    public List<RoomTypePhotoDto> getPhotosByRoomType(String roomTypeId) {
+        return this.photosByRoomType.get(roomTypeId);
+    }
+
+    @Override
+    public Map<String, List<RoomTypePhotoDto>> getPhotosByRoomTypes(Collection<String> roomTypeIds) {
+        return this.photosByRoomType.getAll(roomTypeIds, missingIds -> this.delegate.getPhotosByRoomTypes(List.copyOf(missingIds)));
+    }
+
+    @Override
+    public void getRoomTypePhotoById(String publicId) {
+        try {
+            this.delegate.getRoomTypePhotoById(publicId);
+        } finally {
+            this.photosByRoomType.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteRoomTypePhotosByRoomType(String roomTypeId) {
+        try {
+            this.delegate.deleteRoomTypePhotosByRoomType(roomTypeId);
+        } finally {
+            this.photosByRoomType.invalidate(roomTypeId);
+        }
+    }
+
+    public void invalidateAll() {
+        this.photosByRoom.invalidateAll();
+        this.photosByRoomType.invalidateAll();
+    }
+}
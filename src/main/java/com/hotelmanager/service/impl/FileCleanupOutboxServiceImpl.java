@@ -0,0 +1,114 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.model.entity.FileCleanupTask;
+import com.hotelmanager.model.enums.FileCleanupStatus;
+import com.hotelmanager.model.enums.FileCleanupType;
+import com.hotelmanager.repository.FileCleanupTaskRepository;
+import com.hotelmanager.service.FileCleanupOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileCleanupOutboxServiceImpl implements FileCleanupOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final FileCleanupTaskRepository fileCleanupTaskRepository;
+
+    @Value("${files.cleanup.batch-size:50}")
+    private int batchSize;
+
+    @Value("${files.cleanup.lease:1m}")
+    private Duration lease;
+
+    @Value("${files.cleanup.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${files.cleanup.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    @Value("${files.cleanup.max-attempts:10}")
+    private int maxAttempts;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueRoomPhotos(UUID roomId) {
+        FileCleanupTask task = FileCleanupTask.builder()
+                .cleanupType(FileCleanupType.ROOM_PHOTOS)
+                .resourceId(roomId)
+                .status(FileCleanupStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        this.fileCleanupTaskRepository.save(task);
+    }
+
+    @Override
+    @Transactional
+    public List<FileCleanupTask> claimDueTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        List<FileCleanupTask> tasks = this.fileCleanupTaskRepository.findDueForUpdate(
+                FileCleanupStatus.PENDING, now, PageRequest.of(0, this.batchSize));
+        tasks.forEach(task -> task.setNextAttemptAt(now.plus(this.lease)));
+
+        return tasks;
+    }
+
+    @Override
+    @Transactional
+    public void complete(Collection<UUID> taskIds) {
+        if (!taskIds.isEmpty()) {
+            this.fileCleanupTaskRepository.deleteAllByIdInBatch(taskIds);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void reschedule(UUID taskId, String error) {
+        this.fileCleanupTaskRepository.findById(taskId)
+                .ifPresent(task -> {
+                    task.setAttempts(task.getAttempts() + 1);
+                    task.setLastError(truncate(error));
+
+                    if (task.getAttempts() >= this.maxAttempts) {
+                        task.setStatus(FileCleanupStatus.FAILED);
+                        log.error("Giving up {} cleanup for '{}' after {} attempts", task.getCleanupType(), task.getResourceId(), task.getAttempts());
+                    } else {
+                        task.setNextAttemptAt(LocalDateTime.now().plus(backoff(task.getAttempts())));
+                    }
+                });
+    }
+
+    @Override
+    @Transactional
+    public void fail(UUID taskId, String error) {
+        this.fileCleanupTaskRepository.findById(taskId)
+                .ifPresent(task -> {
+                    task.setAttempts(task.getAttempts() + 1);
+                    task.setLastError(truncate(error));
+                    task.setStatus(FileCleanupStatus.FAILED);
+                });
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = this.initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.config.FilesServiceAuthorization;
+import com.hotelmanager.exception.exceptions.FilesServiceUnavailableException;
+import com.hotelmanager.model.entity.FileCleanupTask;
+import com.hotelmanager.service.FileCleanupOutboxService;
+import com.hotelmanager.service.FilesService;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileCleanupOutboxWorker {
+
+    private final FileCleanupOutboxService fileCleanupOutboxService;
+    private final FilesService filesService;
+    private final FilesServiceAuthorization filesServiceAuthorization;
+
+    @Value("${files.cleanup.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyServiceCredential() {
+        if (this.enabled && !this.filesServiceAuthorization.hasServiceAuthorization()) {
+            log.error("File cleanup is enabled but files.service.auth.service-token is not set, cleanup tasks will be retried until the token is configured");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${files.cleanup.poll-interval:5s}", initialDelayString = "${files.cleanup.poll-interval:5s}")
+    public void poll() {
+        if (!this.enabled) {
+            return;
+        }
+
+        int processed;
+        do {
+            processed = drain();
+        } while (processed > 0);
+    }
+
+    public int drain() {
+        List<FileCleanupTask> tasks = this.fileCleanupOutboxService.claimDueTasks();
+        List<UUID> completed = new ArrayList<>();
+
+        for (FileCleanupTask task : tasks) {
+            try {
+                this.filesServiceAuthorization.runAsService(() -> execute(task));
+                completed.add(task.getUuid());
+            } catch (FeignException.NotFound e) {
+                completed.add(task.getUuid());
+            } catch (FeignException e) {
+                if (isRetryable(e)) {
+                    reschedule(task, e);
+                } else {
+                    log.error("Rejected {} cleanup for '{}' with status {}: ", task.getCleanupType(), task.getResourceId(), e.status(), e);
+                    this.fileCleanupOutboxService.fail(task.getUuid(), e.getMessage());
+                }
+            } catch (FilesServiceUnavailableException e) {
+                reschedule(task, e);
+            }
+        }
+
+        this.fileCleanupOutboxService.complete(completed);
+        if (!tasks.isEmpty()) {
+            log.debug("Processed {} file cleanup tasks, {} completed", tasks.size(), completed.size());
+        }
+
+        return tasks.size();
+    }
+
+    private void reschedule(FileCleanupTask task, RuntimeException e) {
+        log.warn("Failed {} cleanup for '{}', attempt {}: ", task.getCleanupType(), task.getResourceId(), task.getAttempts() + 1, e);
+        this.fileCleanupOutboxService.reschedule(task.getUuid(), e.getMessage());
+    }
+
+    private static boolean isRetryable(FeignException e) {
+        int status = e.status();
+        return status < 400 || status >= 500 || status == 401 || status == 403 || status == 408 || status == 429;
+    }
+
+    private void execute(FileCleanupTask task) {
+        switch (task.getCleanupType()) {
+            case ROOM_PHOTOS -> this.filesService.deletePhotoByRoom(task.getResourceId().toString());
+        }
+    }
+}
@@ -3,17 +3,26 @@ package com.hotelmanager.service.impl;
 import com.hotelmanager.model.entity.User;
 import com.hotelmanager.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class HotelUserDetailsService implements UserDetailsService {
 
+    public static final String USER_DETAILS_CACHE = "userDetails";
+
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
 
+    @Cacheable(cacheNames = USER_DETAILS_CACHE, key = "#username")
     @Override
     public UserDetails loadUserByUsername(String username)
             throws UsernameNotFoundException {
@@ -24,4 +33,25 @@ public class HotelUserDetailsService implements UserDetailsService {
 
         return new HotelUserDetails(user);
     }
+
+    public void evict(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(username);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(username);
+            }
+        });
+    }
+
+    private void evictNow(String username) {
+        Cache cache = this.cacheManager.getCache(USER_DETAILS_CACHE);
+        if (cache != null) {
+            cache.evict(username);
+        }
+    }
 }
@@ -1,40 +1,46 @@
 package com.hotelmanager.service.impl;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
-import java.util.Map;
-import java.util.function.Function;
+import java.util.*;
 
 @Service
 public class JwtService {
 
-    @Value("${security.jwt.secret}")
-    private String secret;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
 
-    @Value("${security.jwt.expiration}")
-    private long jwtExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtService(@Value("${security.jwt.secret}") String secret,
+                      @Value("${security.jwt.expiration}") long jwtExpirationMs) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser()
+                .verifyWith(this.signingKey)
+                .build();
+        this.jwtExpirationMs = jwtExpirationMs;
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public Claims parseClaims(String token) {
+        return this.parser
+                .parseSignedClaims(token)
+                .getPayload();
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String generateToken(HotelUserDetails userDetails) {
+        return generateToken(Map.of(USER_ID_CLAIM, userDetails.user().getUuid().toString()), userDetails);
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -43,10 +49,10 @@ public class JwtService {
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         Date now = new Date();
-        Date expiry = new Date(now.getTime() + jwtExpirationMs);
+        Date expiry = new Date(now.getTime() + this.jwtExpirationMs);
 
-        Map<String, Object> claims = new java.util.HashMap<>(extraClaims);
-        claims.put("roles", userDetails.getAuthorities().stream()
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .toList()
         );
@@ -56,28 +62,31 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(this.signingKey)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Optional<UUID> extractUserId(Claims claims) {
+        return Optional.ofNullable(claims.get(USER_ID_CLAIM, String.class))
+                .map(UUID::fromString);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 }
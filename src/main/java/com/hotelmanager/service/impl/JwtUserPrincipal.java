@@ -0,0 +1,13 @@
+package com.hotelmanager.service.impl;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.UUID;
+
+public record JwtUserPrincipal(UUID id, String username) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return this.username;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.model.enums.ReservationStatus;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.ReservationRepository;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.repository.UserRepository;
+import com.hotelmanager.specifications.ReservationSpecifications;
+import com.hotelmanager.specifications.RoomSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class PageTotalsCache {
+
+    public static final String PAGE_TOTALS_CACHE = "pageTotals";
+
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = PAGE_TOTALS_CACHE, key = "{'reservations', #status, #fromDate, #toDate}", sync = true)
+    public long countReservations(ReservationStatus status, LocalDate fromDate, LocalDate toDate) {
+        return this.reservationRepository.count(ReservationSpecifications.filter(status, fromDate, toDate));
+    }
+
+    @Cacheable(cacheNames = PAGE_TOTALS_CACHE, key = "{'rooms', #roomType, #roomStatus}", sync = true)
+    public long countRooms(UUID roomType, RoomStatus roomStatus) {
+        return this.roomRepository.count(RoomSpecifications.filter(roomType, roomStatus));
+    }
+
+    @Cacheable(cacheNames = PAGE_TOTALS_CACHE, key = "'users'", sync = true)
+    public long countUsers() {
+        return this.userRepository.count();
+    }
+}
@@ -1,13 +1,14 @@
 package com.hotelmanager.service.impl;
 
-import com.hotelmanager.event.ReservationCreatedEvent;
 import com.hotelmanager.exception.exceptions.InvalidReservationPaymentTypeException;
 import com.hotelmanager.exception.exceptions.PaymentNotFoundException;
+import com.hotelmanager.mapper.PaymentMapper;
 import com.hotelmanager.model.dto.request.PaymentCreationDto;
 import com.hotelmanager.model.dto.response.PaymentMenus;
 import com.hotelmanager.model.dto.response.PaymentResponseDto;
 import com.hotelmanager.model.entity.Payment;
 import com.hotelmanager.model.entity.Reservation;
+import com.hotelmanager.model.entity.ReservationPaymentTask;
 import com.hotelmanager.model.entity.Room;
 import com.hotelmanager.model.enums.PaymentReason;
 import com.hotelmanager.model.enums.PaymentStatus;
@@ -18,11 +19,12 @@ import com.hotelmanager.service.ReservationService;
 import com.hotelmanager.service.RoomService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import static com.hotelmanager.exception.ExceptionMessages.INVALID_RESERVATION_PAYMENT_TYPE;
@@ -36,6 +38,7 @@ public class PaymentServiceImpl implements PaymentService {
     private final ReservationService reservationService;
     private final RoomService roomService;
     private final ModelMapper modelMapper;
+    private final PaymentMapper paymentMapper;
 
     @Override
     public UUID createPayment(PaymentCreationDto paymentCreationDto) {
@@ -67,19 +70,31 @@ public class PaymentServiceImpl implements PaymentService {
     public PaymentResponseDto getPaymentById(String id) {
         Payment payment = this.paymentRepository.findById(UUID.fromString(id))
                 .orElseThrow(() -> new PaymentNotFoundException(PAYMENT_NOT_FOUND));
-        return this.modelMapper.map(payment, PaymentResponseDto.class);
+        return this.paymentMapper.toResponseDto(payment);
     }
 
-    @EventListener
-    public void createReservationPayment(ReservationCreatedEvent event) {
-        BigDecimal amount = event.getAccommodationCoast();
+    @Override
+    public void createReservationPayments(Collection<ReservationPaymentTask> tasks) {
+        List<Payment> payments = tasks.stream()
+                .map(this::toReservationPayment)
+                .toList();
+
+        this.paymentRepository.saveAll(payments);
+    }
+
+    private Reservation getReservationById(String reservationId) {
+        return this.reservationService.getReservationEntity(reservationId);
+    }
+
+    private Payment toReservationPayment(ReservationPaymentTask task) {
+        BigDecimal amount = task.getAccommodationCoast();
         PaymentType paymentType = PaymentType.CARD_PAYMENT;
         PaymentReason reason;
 
-        switch (event.getReservationPaymentType()) {
+        switch (task.getReservationPaymentType()) {
             case FULL_PREPAY -> reason = PaymentReason.ACCOMMODATION_PREPAID;
             case RESERVATION_DEPOSIT -> {
-                amount = event.getAccommodationCoast().multiply(BigDecimal.valueOf(0.30));
+                amount = task.getAccommodationCoast().multiply(BigDecimal.valueOf(0.30));
                 reason = PaymentReason.DEPOSIT;
             }
             case PAY_AT_PROPERTY -> {
@@ -87,21 +102,15 @@ public class PaymentServiceImpl implements PaymentService {
                 reason = PaymentReason.PAY_AT_PROPERTY_ACCOMMODATION;
             }
             default ->
-                    throw new InvalidReservationPaymentTypeException(INVALID_RESERVATION_PAYMENT_TYPE.formatted(event.getReservationPaymentType()));
+                    throw new InvalidReservationPaymentTypeException(INVALID_RESERVATION_PAYMENT_TYPE.formatted(task.getReservationPaymentType()));
         }
 
-        Payment payment = Payment.builder()
+        return Payment.builder()
                 .amount(amount)
                 .paymentType(paymentType)
                 .reason(reason)
                 .status(PaymentStatus.PENDING)
-                .reservation(getReservationById(event.getReservationId()))
+                .reservation(this.reservationService.getReference(task.getReservationId()))
                 .build();
-
-        this.paymentRepository.save(payment);
-    }
-
-    private Reservation getReservationById(String reservationId) {
-        return this.reservationService.getReservationEntity(reservationId);
     }
 }
@@ -0,0 +1,131 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.event.ReservationCreatedEvent;
+import com.hotelmanager.model.entity.BaseUUIDEntity;
+import com.hotelmanager.model.entity.ReservationPaymentTask;
+import com.hotelmanager.repository.ReservationPaymentTaskRepository;
+import com.hotelmanager.service.PaymentService;
+import com.hotelmanager.service.ReservationPaymentOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationPaymentOutboxServiceImpl implements ReservationPaymentOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ReservationPaymentTaskRepository reservationPaymentTaskRepository;
+    private final PaymentService paymentService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${payments.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${payments.outbox.initial-backoff:10s}")
+    private Duration initialBackoff;
+
+    @Value("${payments.outbox.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    @Value("${payments.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @EventListener
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(ReservationCreatedEvent event) {
+        ReservationPaymentTask task = ReservationPaymentTask.builder()
+                .reservationId(UUID.fromString(event.getReservationId()))
+                .reservationPaymentType(event.getReservationPaymentType())
+                .accommodationCoast(event.getAccommodationCoast())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        this.reservationPaymentTaskRepository.save(task);
+    }
+
+    @Override
+    public int processPending() {
+        try {
+            Integer processed = this.transactionTemplate.execute(status -> processBatch());
+            return processed == null ? 0 : processed;
+        } catch (RuntimeException e) {
+            log.warn("Failed to create reservation payments in one batch, retrying task by task: ", e);
+            return processTaskByTask();
+        }
+    }
+
+    private int processBatch() {
+        List<ReservationPaymentTask> tasks = this.reservationPaymentTaskRepository
+                .findDueForUpdate(LocalDateTime.now(), this.maxAttempts, PageRequest.of(0, this.batchSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        this.paymentService.createReservationPayments(tasks);
+        this.reservationPaymentTaskRepository.deleteAllInBatch(tasks);
+        log.debug("Created {} pending reservation payments", tasks.size());
+
+        return tasks.size();
+    }
+
+    private int processTaskByTask() {
+        List<UUID> taskIds = this.transactionTemplate.execute(status -> this.reservationPaymentTaskRepository
+                .findDueForUpdate(LocalDateTime.now(), this.maxAttempts, PageRequest.of(0, this.batchSize))
+                .stream()
+                .map(BaseUUIDEntity::getUuid)
+                .toList());
+
+        int processed = 0;
+        for (UUID taskId : taskIds == null ? List.<UUID>of() : taskIds) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> this.reservationPaymentTaskRepository
+                        .findDueByIdForUpdate(taskId, LocalDateTime.now(), this.maxAttempts)
+                        .ifPresent(task -> {
+                            this.paymentService.createReservationPayments(List.of(task));
+                            this.reservationPaymentTaskRepository.delete(task);
+                        }));
+                processed++;
+            } catch (RuntimeException e) {
+                reschedule(taskId, e);
+            }
+        }
+
+        return processed;
+    }
+
+    private void reschedule(UUID taskId, RuntimeException error) {
+        String message = error.getMessage();
+        this.transactionTemplate.executeWithoutResult(status -> this.reservationPaymentTaskRepository.findById(taskId)
+                .ifPresent(task -> {
+                    task.setAttempts(task.getAttempts() + 1);
+                    task.setLastError(message == null || message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH));
+
+                    if (task.getAttempts() >= this.maxAttempts) {
+                        log.error("Giving up reservation payment for '{}' after {} attempts: ", task.getReservationId(), task.getAttempts(), error);
+                    } else {
+                        log.warn("Failed reservation payment for '{}', attempt {}: ", task.getReservationId(), task.getAttempts(), error);
+                        task.setNextAttemptAt(LocalDateTime.now().plus(backoff(task.getAttempts())));
+                    }
+                }));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = this.initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : backoff;
+    }
+}
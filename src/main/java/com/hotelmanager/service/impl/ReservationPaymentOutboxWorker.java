@@ -0,0 +1,58 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.event.ReservationCreatedEvent;
+import com.hotelmanager.service.ReservationPaymentOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationPaymentOutboxWorker {
+
+    private final ReservationPaymentOutboxService reservationPaymentOutboxService;
+    private final AsyncTaskExecutor reservationPaymentsExecutor;
+
+    @Value("${payments.outbox.enabled:true}")
+    private boolean enabled;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        try {
+            this.reservationPaymentsExecutor.execute(this::poll);
+        } catch (TaskRejectedException e) {
+            log.debug("Reservation payment outbox is already being drained");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payments.outbox.poll-interval:10s}", initialDelayString = "${payments.outbox.poll-interval:10s}")
+    public void poll() {
+        if (!this.enabled) {
+            return;
+        }
+
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Failed to process reservation payment outbox: ", e);
+        }
+    }
+
+    public int drain() {
+        int total = 0;
+        int processed;
+        do {
+            processed = this.reservationPaymentOutboxService.processPending();
+            total += processed;
+        } while (processed > 0);
+
+        return total;
+    }
+}
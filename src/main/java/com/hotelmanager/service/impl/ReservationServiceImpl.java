@@ -1,11 +1,11 @@
 package com.hotelmanager.service.impl;
 
 import com.hotelmanager.event.ReservationCreatedEvent;
-import com.hotelmanager.exception.exceptions.NotEnoughRoomsAvailableException;
 import com.hotelmanager.exception.exceptions.ReservationNotFoundException;
-import com.hotelmanager.model.dto.RoomTypeAvailability;
+import com.hotelmanager.mapper.ReservationMapper;
 import com.hotelmanager.model.dto.request.ReservationCreationDto;
 import com.hotelmanager.model.dto.request.ReservationRoomDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.ReservationDetailsDto;
 import com.hotelmanager.model.dto.response.ReservationPageResponseDto;
 import com.hotelmanager.model.dto.response.ReservationPaymentDto;
@@ -18,18 +18,19 @@ import com.hotelmanager.model.enums.ReservationPaymentType;
 import com.hotelmanager.model.enums.ReservationStatus;
 import com.hotelmanager.repository.ReservationRepository;
 import com.hotelmanager.service.ReservationService;
+import com.hotelmanager.service.RoomTypeInventoryService;
 import com.hotelmanager.service.RoomTypeService;
 import com.hotelmanager.service.UserService;
 import com.hotelmanager.specifications.ReservationSpecifications;
 import com.hotelmanager.validation.PageableValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,7 +42,6 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.hotelmanager.exception.ExceptionMessages.NOT_ENOUGH_ROOMS_AVAILABLE;
 import static com.hotelmanager.exception.ExceptionMessages.RESERVATION_NOT_FOUND;
 
 @Slf4j
@@ -49,11 +49,17 @@ import static com.hotelmanager.exception.ExceptionMessages.RESERVATION_NOT_FOUND
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService {
 
+    private static final Sort SCROLL_SORT = Sort.by("startDate", "uuid");
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("startDate", LocalDate.class, "uuid", UUID.class);
+
     private final ReservationRepository reservationRepository;
     private final UserService userService;
     private final RoomTypeService roomTypeService;
     private final ApplicationEventPublisher eventPublisher;
-    private final ModelMapper modelMapper;
+    private final ReservationMapper reservationMapper;
+    private final RoomTypeInventoryService roomTypeInventoryService;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final PageTotalsCache pageTotalsCache;
 
     @Transactional
     @Override
@@ -62,16 +68,18 @@ public class ReservationServiceImpl implements ReservationService {
         LocalDate endDate = reservationCreationDto.getEndDate();
         List<ReservationRoomDto> rooms = reservationCreationDto.getRooms();
 
-        validateCapacity(startDate, endDate, rooms);
+        Map<String, RoomType> roomTypes = this.roomTypeService.getEntitiesByNames(rooms.stream()
+                .map(ReservationRoomDto::getRoomTypeName)
+                .collect(Collectors.toSet()));
 
-        BigDecimal accommodationCoast = calculateAccommodationCost(rooms, startDate, endDate);
+        BigDecimal accommodationCoast = calculateAccommodationCost(rooms, roomTypes, startDate, endDate);
 
         ReservationStatus reservationStatus = ReservationStatus.RESERVATION_REQUEST;
         if (reservationCreationDto.getReservationPaymentType() == ReservationPaymentType.PAY_AT_PROPERTY) {
             reservationStatus = ReservationStatus.RESERVATION_CONFIRMED;
         }
 
-        User user = this.userService.getAuthenticationUser();
+        User user = this.userService.getAuthenticationUserReference();
 
         Reservation reservation = Reservation.builder()
                 .firstName(reservationCreationDto.getFirstName())
@@ -87,9 +95,11 @@ public class ReservationServiceImpl implements ReservationService {
                 .createdBy(user)
                 .build();
 
-        Set<ReservationRoomType> reservationRoomTypes = getReservationRoomTypes(reservation, rooms);
+        Set<ReservationRoomType> reservationRoomTypes = getReservationRoomTypes(reservation, rooms, roomTypes);
         reservation.setRoomTypes(reservationRoomTypes);
 
+        this.roomTypeInventoryService.reserve(startDate, endDate, reservationRoomTypes);
+
         Reservation createdReservation = this.reservationRepository.save(reservation);
 
         this.eventPublisher.publishEvent(new ReservationCreatedEvent(reservation.getUuid().toString(), reservation.getReservationPaymentType(), reservation.getAccommodationCoast()));
@@ -103,13 +113,18 @@ public class ReservationServiceImpl implements ReservationService {
                 .orElseThrow(() -> new ReservationNotFoundException(RESERVATION_NOT_FOUND));
     }
 
-    @Transactional
+    @Override
+    public Reservation getReference(UUID id) {
+        return this.reservationRepository.getReferenceById(id);
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public ReservationDetailsDto getReservationById(String id) {
-        Reservation reservation = this.reservationRepository.findById(UUID.fromString(id))
+        Reservation reservation = this.reservationRepository.findWithDetailsByUuid(UUID.fromString(id))
                 .orElseThrow(() -> new ReservationNotFoundException(RESERVATION_NOT_FOUND));
 
-        ReservationDetailsDto detailsDto = this.modelMapper.map(reservation, ReservationDetailsDto.class);
+        ReservationDetailsDto detailsDto = this.reservationMapper.toDetailsDto(reservation);
 
         calculateReservationDetailsCoasts(detailsDto, reservation.getAccommodationCoast());
 
@@ -120,31 +135,38 @@ public class ReservationServiceImpl implements ReservationService {
     public Page<ReservationPageResponseDto> getAllReservations(Optional<ReservationStatus> status, Optional<LocalDate> fromDate, Optional<LocalDate> toDate, String sortBy, String direction, int page, int size) {
         Pageable sortedPageable = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(direction), sortBy));
 
-        Specification<Reservation> spec = Specification.allOf(
-                status.map(ReservationSpecifications::byReservationStatus).orElse(null),
-                ReservationSpecifications.betweenDate(fromDate.orElse(null), toDate.orElse(null))
-        );
+        Specification<Reservation> spec = ReservationSpecifications.filter(status.orElse(null), fromDate.orElse(null), toDate.orElse(null));
 
         Page<Reservation> reservations = this.reservationRepository.findAll(spec, sortedPageable);
 
         PageableValidator.validatePageRequest(reservations, sortedPageable);
 
-        return reservations.map(reservation -> this.modelMapper.map(reservation, ReservationPageResponseDto.class));
+        return reservations.map(this.reservationMapper::toPageResponseDto);
     }
 
-    private void validateCapacity(LocalDate startDate, LocalDate endDate, List<ReservationRoomDto> rooms) {
-        Map<String, RoomTypeAvailability> roomTypeAvailabilitiesMap = this.roomTypeService.roomTypeAvailabilitiesMap(startDate, endDate);
-
-        for (ReservationRoomDto room : rooms) {
-            RoomTypeAvailability roomTypeAvailability = roomTypeAvailabilitiesMap.get(room.getRoomTypeName());
-
-            if (roomTypeAvailability.availableRooms() - room.getRoomsCount() < 0) {
-                throw new NotEnoughRoomsAvailableException(NOT_ENOUGH_ROOMS_AVAILABLE.formatted(room.getRoomTypeName()));
-            }
-        }
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<ReservationPageResponseDto> scrollReservations(Optional<ReservationStatus> status, Optional<LocalDate> fromDate, Optional<LocalDate> toDate, Optional<String> cursor, int size, boolean includeTotal) {
+        PageableValidator.validateScrollSize(size);
+
+        Specification<Reservation> spec = ReservationSpecifications.filter(status.orElse(null), fromDate.orElse(null), toDate.orElse(null));
+
+        Window<Reservation> reservations = this.reservationRepository.findBy(spec, query -> query
+                .sortBy(SCROLL_SORT)
+                .limit(size)
+                .scroll(this.scrollCursorCodec.decode(cursor, SCROLL_KEYS)));
+
+        return new CursorPageResponse<>(
+                reservations.map(this.reservationMapper::toPageResponseDto).getContent(),
+                size,
+                this.scrollCursorCodec.nextCursor(reservations),
+                reservations.hasNext(),
+                includeTotal ? this.pageTotalsCache.countReservations(status.orElse(null), fromDate.orElse(null), toDate.orElse(null)) : null
+        );
     }
 
     private BigDecimal calculateAccommodationCost(List<ReservationRoomDto> rooms,
+                                                  Map<String, RoomType> roomTypes,
                                                   LocalDate startDate,
                                                   LocalDate endDate) {
 
@@ -154,7 +176,7 @@ public class ReservationServiceImpl implements ReservationService {
 
         for (ReservationRoomDto reservationRoomDto : rooms) {
 
-            RoomType type = roomTypeService.getEntityByName(reservationRoomDto.getRoomTypeName());
+            RoomType type = roomTypes.get(reservationRoomDto.getRoomTypeName());
 
             BigDecimal basePrice = type.getBasePricePerNight();
             BigDecimal roomsCount = BigDecimal.valueOf(reservationRoomDto.getRoomsCount());
@@ -169,12 +191,12 @@ public class ReservationServiceImpl implements ReservationService {
         return total.setScale(2, RoundingMode.HALF_UP);
     }
 
-    public Set<ReservationRoomType> getReservationRoomTypes(Reservation reservation, List<ReservationRoomDto> rooms) {
+    public Set<ReservationRoomType> getReservationRoomTypes(Reservation reservation, List<ReservationRoomDto> rooms, Map<String, RoomType> roomTypes) {
         return rooms.stream()
                 .map(reservationRoomDto ->
                         ReservationRoomType.builder()
                                 .reservation(reservation)
-                                .roomType(this.roomTypeService.getEntityByName(reservationRoomDto.getRoomTypeName()))
+                                .roomType(this.roomTypeService.getReference(roomTypes.get(reservationRoomDto.getRoomTypeName()).getUuid()))
                                 .roomsCount(reservationRoomDto.getRoomsCount())
                                 .build())
                 .collect(Collectors.toSet());
@@ -0,0 +1,106 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.exception.exceptions.FilesServiceUnavailableException;
+import com.hotelmanager.model.dto.feign.RoomPhotoDto;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.service.FilesService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.hotelmanager.exception.ExceptionMessages.FILES_SERVICE_UNAVAILABLE;
+
+@Component
+public class ResilientFilesService implements FilesService {
+
+    public static final String FILES_SERVICE = "filesService";
+
+    private final FilesService delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ResilientFilesService(@Qualifier("streamingFilesService") FilesService delegate,
+                                 CircuitBreakerRegistry circuitBreakerRegistry,
+                                 BulkheadRegistry bulkheadRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(FILES_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(FILES_SERVICE);
+    }
+
+    @Override
+    public void createFile() {
+        run(this.delegate::createFile);
+    }
+
+    @Override
+    public RoomPhotoDto uploadPhotos(List<MultipartFile> files, String roomId, String roomTypeId) {
+        return call(() -> this.delegate.uploadPhotos(files, roomId, roomTypeId));
+    }
+
+    @Override
+    public List<RoomPhotoDto> getPhotosByRoom(String roomId) {
+        return call(() -> this.delegate.getPhotosByRoom(roomId));
+    }
+
+    @Override
+    public void deletePhoto(String publicId) {
+        run(() -> this.delegate.deletePhoto(publicId));
+    }
+
+    @Override
+    public void deletePhotoByRoom(String roomId) {
+        run(() -> this.delegate.deletePhotoByRoom(roomId));
+    }
+
+    @Override
+    public List<RoomTypePhotoDto> uploadRoomTypeImages(String roomTypeId, MultipartFile[] images) {
+        return call(() -> this.delegate.uploadRoomTypeImages(roomTypeId, images));
+    }
+
+    @Override
+    public List<RoomTypePhotoDto> getPhotosByRoomType(String roomTypeId) {
+        return call(() -> this.delegate.getPhotosByRoomType(roomTypeId));
+    }
+
+    @Override
+    public Map<String, List<RoomTypePhotoDto>> getPhotosByRoomTypes(Collection<String> roomTypeIds) {
+        return call(() -> this.delegate.getPhotosByRoomTypes(roomTypeIds));
+    }
+
+    @Override
+    public void getRoomTypePhotoById(String publicId) {
+        run(() -> this.delegate.getRoomTypePhotoById(publicId));
+    }
+
+    @Override
+    public void deleteRoomTypePhotosByRoomType(String roomTypeId) {
+        run(() -> this.delegate.deleteRoomTypePhotosByRoomType(roomTypeId));
+    }
+
+    private void run(Runnable request) {
+        call(() -> {
+            request.run();
+            return null;
+        });
+    }
+
+    private <T> T call(Supplier<T> request) {
+        try {
+            return CircuitBreaker.decorateSupplier(this.circuitBreaker,
+                    Bulkhead.decorateSupplier(this.bulkhead, request)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new FilesServiceUnavailableException(FILES_SERVICE_UNAVAILABLE, e);
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.hotelmanager.service.impl;
 
+import com.hotelmanager.mapper.RoleMapper;
 import com.hotelmanager.model.dto.response.RoleDto;
 import com.hotelmanager.model.entity.Role;
 import com.hotelmanager.repository.RoleRepository;
 import com.hotelmanager.service.RoleService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
 public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
-    private final ModelMapper modelMapper;
+    private final RoleMapper roleMapper;
 
     @Override
     public Set<Role> getRolesByIds(Collection<UUID> ids) {
@@ -28,7 +28,7 @@ public class RoleServiceImpl implements RoleService {
     @Override
     public Set<RoleDto> getAllRoles() {
         return this.roleRepository.findAll().stream()
-                .map(role -> this.modelMapper.map(role, RoleDto.class))
+                .map(this.roleMapper::toDto)
                 .collect(Collectors.toSet());
     }
 }
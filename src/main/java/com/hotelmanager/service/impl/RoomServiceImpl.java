@@ -2,8 +2,10 @@ package com.hotelmanager.service.impl;
 
 import com.hotelmanager.exception.exceptions.RoomNotFoundException;
 import com.hotelmanager.exception.exceptions.RoomNumberAlreadyExistsException;
+import com.hotelmanager.mapper.RoomPhotoMapper;
 import com.hotelmanager.model.dto.request.RoomCreationDto;
 import com.hotelmanager.model.dto.request.RoomUpdateDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.RoomPageResponseDto;
 import com.hotelmanager.model.dto.response.RoomPhotoSummaryDto;
 import com.hotelmanager.model.dto.response.RoomResponseDto;
@@ -13,25 +15,33 @@ import com.hotelmanager.model.entity.User;
 import com.hotelmanager.model.enums.BedType;
 import com.hotelmanager.model.enums.RoomStatus;
 import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.service.FileCleanupOutboxService;
 import com.hotelmanager.service.FilesService;
 import com.hotelmanager.service.RoomService;
+import com.hotelmanager.service.RoomTypeInventoryService;
 import com.hotelmanager.service.RoomTypeService;
 import com.hotelmanager.service.UserService;
 import com.hotelmanager.specifications.RoomSpecifications;
 import com.hotelmanager.validation.PageableValidator;
-import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static com.hotelmanager.exception.ExceptionMessages.ROOM_NOT_FOUND_ID;
 import static com.hotelmanager.exception.ExceptionMessages.ROOM_NUMBER_EXISTS;
@@ -41,12 +51,25 @@ import static com.hotelmanager.exception.ExceptionMessages.ROOM_NUMBER_EXISTS;
 @RequiredArgsConstructor
 public class RoomServiceImpl implements RoomService {
 
+    private static final Sort SCROLL_SORT = Sort.by("roomNumber");
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("roomNumber", String.class, "uuid", UUID.class);
+
     private final RoomRepository roomRepository;
     private final ModelMapper modelMapper;
+    private final RoomPhotoMapper roomPhotoMapper;
     private final FilesService filesService;
     private final RoomTypeService roomTypeService;
     private final UserService userService;
+    private final RoomTypeInventoryService roomTypeInventoryService;
+    private final AsyncTaskExecutor filesServiceExecutor;
+    private final FileCleanupOutboxService fileCleanupOutboxService;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final PageTotalsCache pageTotalsCache;
+
+    @Value("${files.service.photos-fetch-timeout:2s}")
+    private Duration photosFetchTimeout;
 
+    @Transactional
     @Override
     public RoomResponseDto createRoom(RoomCreationDto creationDto) {
         validateRoomNumber(creationDto.getRoomNumber());
@@ -59,18 +82,24 @@ public class RoomServiceImpl implements RoomService {
         List<BedType> bedTypes = creationDto.getBedTypes();
         newRoom.setBedTypes(bedTypes);
 
-        User user = this.userService.getAuthenticationUser();
+        User user = this.userService.getAuthenticationUserReference();
         newRoom.setCreatedBy(user);
 
         Room createdRoom = this.roomRepository.save(newRoom);
+        this.roomTypeInventoryService.roomAdded(roomType.getUuid(), createdRoom.getRoomStatus());
+
         return buildRoomResponse(createdRoom, List.of(), List.of());
     }
 
+    @Transactional
     @Override
     public RoomResponseDto updateRoom(String id, RoomUpdateDto roomUpdateDto) {
         Room existingRoom = this.roomRepository.findById(UUID.fromString(id))
                 .orElseThrow(() -> new RoomNotFoundException(ROOM_NOT_FOUND_ID + id));
 
+        UUID previousRoomTypeId = existingRoom.getRoomType().getUuid();
+        RoomStatus previousRoomStatus = existingRoom.getRoomStatus();
+
         if (!existingRoom.getRoomNumber().equals(roomUpdateDto.getRoomNumber())) {
             validateRoomNumber(roomUpdateDto.getRoomNumber());
             existingRoom.setRoomNumber(roomUpdateDto.getRoomNumber());
@@ -90,34 +119,30 @@ public class RoomServiceImpl implements RoomService {
         }
 
         Room updatedRoom = this.roomRepository.save(existingRoom);
+
+        UUID roomTypeId = updatedRoom.getRoomType().getUuid();
+        if (!roomTypeId.equals(previousRoomTypeId) || updatedRoom.getRoomStatus() != previousRoomStatus) {
+            this.roomTypeInventoryService.roomRemoved(previousRoomTypeId, previousRoomStatus);
+            this.roomTypeInventoryService.roomAdded(roomTypeId, updatedRoom.getRoomStatus());
+        }
+
         return buildRoomResponse(updatedRoom, List.of(), List.of());
     }
 
-    @Transactional
     @Override
     public RoomResponseDto getRoomById(String id) {
-        Room room = this.roomRepository.findById(UUID.fromString(id))
+        Room room = this.roomRepository.findWithRoomTypeByUuid(UUID.fromString(id))
                 .orElseThrow(() -> new RoomNotFoundException(ROOM_NOT_FOUND_ID + id));
 
-        List<RoomPhotoSummaryDto> photosByRoom = new ArrayList<>();
-        List<RoomPhotoSummaryDto> photosByType = new ArrayList<>();
-        try {
-            log.info("Fetch room '{}' pictures from files service", id);
-            photosByRoom = this.filesService.getPhotosByRoom(room.getUuid().toString())
-                    .stream()
-                    .map(photo -> this.modelMapper.map(photo, RoomPhotoSummaryDto.class))
-                    .toList();
-
-            log.info("Fetch room type '{}' pictures from files service", room.getRoomType().getName());
-            photosByType = this.filesService.getPhotosByRoomType(room.getRoomType().getUuid().toString())
-                    .stream()
-                    .map(photo -> this.modelMapper.map(photo, RoomPhotoSummaryDto.class))
-                    .toList();
-        } catch (FeignException e) {
-            log.warn("Failed to fetch pictures for room '{}': ", id, e);
-        }
+        log.info("Fetch room '{}' and room type '{}' pictures from files service", id, room.getRoomType().getName());
+        CompletableFuture<List<RoomPhotoSummaryDto>> photosByRoom = fetchPhotos(
+                () -> this.roomPhotoMapper.toRoomPhotoSummaries(this.filesService.getPhotosByRoom(room.getUuid().toString())),
+                "room", id);
+        CompletableFuture<List<RoomPhotoSummaryDto>> photosByType = fetchPhotos(
+                () -> this.roomPhotoMapper.toRoomTypePhotoSummaries(this.filesService.getPhotosByRoomType(room.getRoomType().getUuid().toString())),
+                "room type", room.getRoomType().getName());
 
-        return buildRoomResponse(room, photosByRoom, photosByType);
+        return buildRoomResponse(room, photosByRoom.join(), photosByType.join());
     }
 
     @Transactional
@@ -129,29 +154,35 @@ public class RoomServiceImpl implements RoomService {
                 Sort.by(Sort.Direction.ASC, "roomNumber")
         );
 
-        Specification<Room> spec = Specification.allOf(
-                roomType.map(RoomSpecifications::byRoomType).orElse(null),
-                roomStatus.map(RoomSpecifications::byRoomStatus).orElse(null)
-        );
+        Specification<Room> spec = RoomSpecifications.filter(roomType.orElse(null), roomStatus.orElse(null));
 
         Page<Room> rooms = roomRepository.findAll(spec, sortedPageable);
 
         PageableValidator.validatePageRequest(rooms, sortedPageable);
 
-        return rooms.map(room -> {
-            RoomType type = room.getRoomType();
-
-            return RoomPageResponseDto.builder()
-                    .uuid(room.getUuid().toString())
-                    .roomNumber(room.getRoomNumber())
-                    .roomType(type.getName())
-                    .capacity(type.getCapacity())
-                    .bedTypes(room.getBedTypes())
-                    .pricePerNight(type.getBasePricePerNight())
-                    .description(type.getDescription())
-                    .roomStatus(room.getRoomStatus())
-                    .build();
-        });
+        return rooms.map(this::toPageResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<RoomPageResponseDto> scrollRooms(Optional<UUID> roomType, Optional<RoomStatus> roomStatus, Optional<String> cursor, int size, boolean includeTotal) {
+        PageableValidator.validateScrollSize(size);
+
+        Specification<Room> spec = RoomSpecifications.filter(roomType.orElse(null), roomStatus.orElse(null));
+
+        Window<Room> rooms = this.roomRepository.findBy(spec, query -> query
+                .project("roomType")
+                .sortBy(SCROLL_SORT)
+                .limit(size)
+                .scroll(this.scrollCursorCodec.decode(cursor, SCROLL_KEYS)));
+
+        return new CursorPageResponse<>(
+                rooms.map(this::toPageResponseDto).getContent(),
+                size,
+                this.scrollCursorCodec.nextCursor(rooms),
+                rooms.hasNext(),
+                includeTotal ? this.pageTotalsCache.countRooms(roomType.orElse(null), roomStatus.orElse(null)) : null
+        );
     }
 
     @Override
@@ -160,19 +191,15 @@ public class RoomServiceImpl implements RoomService {
                 .orElseThrow(() -> new RoomNotFoundException(ROOM_NOT_FOUND_ID));
     }
 
+    @Transactional
     @Override
     public void deleteRoomById(String id) {
-        if (!this.roomRepository.existsById(UUID.fromString(id))) {
-            throw new RoomNotFoundException(ROOM_NOT_FOUND_ID + id);
-        }
-
-        this.roomRepository.deleteById(UUID.fromString(id));
+        Room room = this.roomRepository.findById(UUID.fromString(id))
+                .orElseThrow(() -> new RoomNotFoundException(ROOM_NOT_FOUND_ID + id));
 
-        try {
-            this.filesService.deletePhotoByRoom(id);
-        } catch (FeignException e) {
-            log.warn("Failed to delete photos for room with id '{}': ", id, e);
-        }
+        this.roomRepository.delete(room);
+        this.roomTypeInventoryService.roomRemoved(room.getRoomType().getUuid(), room.getRoomStatus());
+        this.fileCleanupOutboxService.enqueueRoomPhotos(room.getUuid());
     }
 
     private void validateRoomNumber(String roomNumber) {
@@ -181,6 +208,15 @@ public class RoomServiceImpl implements RoomService {
         }
     }
 
+    private CompletableFuture<List<RoomPhotoSummaryDto>> fetchPhotos(Supplier<List<RoomPhotoSummaryDto>> photosSupplier, String owner, String ownerId) {
+        return CompletableFuture.supplyAsync(photosSupplier, this.filesServiceExecutor)
+                .orTimeout(this.photosFetchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("Failed to fetch pictures for {} '{}': ", owner, ownerId, e);
+                    return List.of();
+                });
+    }
+
     private RoomResponseDto buildRoomResponse(Room room, List<RoomPhotoSummaryDto> photos, List<RoomPhotoSummaryDto> typePhotos) {
         RoomType roomType = room.getRoomType();
         List<String> bedTypes = room.getBedTypes().stream()
@@ -202,4 +238,19 @@ public class RoomServiceImpl implements RoomService {
                 .roomTypePhotos(typePhotos)
                 .build();
     }
+
+    private RoomPageResponseDto toPageResponseDto(Room room) {
+        RoomType type = room.getRoomType();
+
+        return RoomPageResponseDto.builder()
+                .uuid(room.getUuid().toString())
+                .roomNumber(room.getRoomNumber())
+                .roomType(type.getName())
+                .capacity(type.getCapacity())
+                .bedTypes(room.getBedTypes())
+                .pricePerNight(type.getBasePricePerNight())
+                .description(type.getDescription())
+                .roomStatus(room.getRoomStatus())
+                .build();
+    }
 }
@@ -0,0 +1,202 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.model.dto.RoomTypeAvailability;
+import com.hotelmanager.model.dto.RoomTypeBookedNight;
+import com.hotelmanager.model.dto.RoomTypeRoomsCount;
+import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.entity.RoomTypeInventory;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.repository.RoomTypeInventoryRepository;
+import com.hotelmanager.repository.RoomTypeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class RoomTypeAvailabilityIndex {
+
+    private final RoomTypeRepository roomTypeRepository;
+    private final RoomRepository roomRepository;
+    private final RoomTypeInventoryRepository inventoryRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${availability.index.horizon-days:730}")
+    private int horizonDays;
+
+    private Map<UUID, Inventory> inventories = new HashMap<>();
+    private LocalDate firstDay = LocalDate.now();
+
+    public RoomTypeAvailabilityIndex(RoomTypeRepository roomTypeRepository,
+                                     RoomRepository roomRepository,
+                                     RoomTypeInventoryRepository inventoryRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.roomTypeRepository = roomTypeRepository;
+        this.roomRepository = roomRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${availability.index.rebuild-cron:0 0 0 * * *}")
+    public void rebuild() {
+        this.lock.writeLock().lock();
+        try {
+            LocalDate today = LocalDate.now();
+            Map<UUID, Inventory> rebuilt = this.readTransaction.execute(status -> load(today));
+            this.inventories = rebuilt;
+            this.firstDay = today;
+
+            log.info("Room type availability index rebuilt for {} room types starting {}", rebuilt.size(), today);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Map<String, RoomTypeAvailability>> availabilities(LocalDate startDate, LocalDate endDate) {
+        this.lock.readLock().lock();
+        try {
+            int from = dayIndex(this.firstDay, startDate);
+            int to = dayIndex(this.firstDay, endDate);
+            if (from < 0 || to > this.horizonDays) {
+                return Optional.empty();
+            }
+
+            Map<String, RoomTypeAvailability> availabilities = new HashMap<>();
+            for (Inventory inventory : this.inventories.values()) {
+                int bookedRooms = inventory.peak(from, to);
+                availabilities.put(inventory.name, new RoomTypeAvailability(
+                        inventory.name,
+                        inventory.totalRooms,
+                        bookedRooms,
+                        inventory.totalRooms - bookedRooms));
+            }
+            return Optional.of(availabilities);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public void addRoomType(UUID roomTypeId, String name) {
+        afterCommit(() -> update(() -> this.inventories.putIfAbsent(roomTypeId, new Inventory(name, this.horizonDays))));
+    }
+
+    public void book(Collection<UUID> roomTypeIds, LocalDate startDate, LocalDate endDate) {
+        afterCommit(() -> update(() -> {
+            List<RoomTypeBookedNight> nights = this.readTransaction.execute(status -> this.inventoryRepository
+                    .findBookedNights(roomTypeIds, startDate, endDate));
+            for (RoomTypeBookedNight night : nights) {
+                Inventory inventory = this.inventories.get(night.roomTypeId());
+                if (inventory != null) {
+                    inventory.set(dayIndex(this.firstDay, night.stayDate()), night.booked());
+                }
+            }
+        }));
+    }
+
+    public void refreshTotalRooms(UUID roomTypeId) {
+        afterCommit(() -> update(() -> {
+            Inventory inventory = this.inventories.get(roomTypeId);
+            if (inventory != null) {
+                long totalRooms = this.readTransaction.execute(status -> this.roomRepository
+                        .countByRoomTypeUuidAndRoomStatusNot(roomTypeId, RoomStatus.UNDER_CONSTRUCTION));
+                inventory.totalRooms = (int) totalRooms;
+            }
+        }));
+    }
+
+    private Map<UUID, Inventory> load(LocalDate today) {
+        Map<UUID, Inventory> rebuilt = new HashMap<>();
+
+        for (RoomType roomType : this.roomTypeRepository.findAll()) {
+            rebuilt.put(roomType.getUuid(), new Inventory(roomType.getName(), this.horizonDays));
+        }
+
+        for (RoomTypeRoomsCount roomsCount : this.roomRepository.countBookableRoomsByType()) {
+            Inventory inventory = rebuilt.get(roomsCount.roomTypeId());
+            if (inventory != null) {
+                inventory.totalRooms = (int) roomsCount.roomsCount();
+            }
+        }
+
+        for (RoomTypeInventory night : this.inventoryRepository.findByIdStayDateGreaterThanEqual(today)) {
+            Inventory inventory = rebuilt.get(night.getId().getRoomTypeId());
+            if (inventory != null) {
+                inventory.set(dayIndex(today, night.getId().getStayDate()), night.getBooked());
+            }
+        }
+
+        return rebuilt;
+    }
+
+    private void update(Runnable mutation) {
+        this.lock.writeLock().lock();
+        try {
+            mutation.run();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int dayIndex(LocalDate firstDay, LocalDate date) {
+        return (int) (date.toEpochDay() - firstDay.toEpochDay());
+    }
+
+    private static final class Inventory {
+
+        private final String name;
+        private final int[] bookedRooms;
+        private int totalRooms;
+
+        private Inventory(String name, int horizonDays) {
+            this.name = name;
+            this.bookedRooms = new int[horizonDays];
+        }
+
+        private void set(int day, int rooms) {
+            if (day >= 0 && day < this.bookedRooms.length) {
+                this.bookedRooms[day] = rooms;
+            }
+        }
+
+        private int peak(int from, int to) {
+            int peak = 0;
+            for (int day = from; day < to; day++) {
+                peak = Math.max(peak, this.bookedRooms[day]);
+            }
+            return peak;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.repository.RoomTypeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class RoomTypeCache {
+
+    public static final String ROOM_TYPES_CACHE = "roomTypes";
+
+    private final RoomTypeRepository roomTypeRepository;
+    private final CacheManager cacheManager;
+
+    @Cacheable(cacheNames = ROOM_TYPES_CACHE, key = "'all'", sync = true)
+    public Map<String, UUID> idsByName() {
+        Map<String, UUID> idsByName = this.roomTypeRepository.findAll(Sort.by("name"))
+                .stream()
+                .collect(Collectors.toMap(RoomType::getName, RoomType::getUuid, (first, second) -> first, LinkedHashMap::new));
+
+        return Collections.unmodifiableMap(idsByName);
+    }
+
+    public void evict() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow();
+            }
+        });
+    }
+
+    private void evictNow() {
+        Cache cache = this.cacheManager.getCache(ROOM_TYPES_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.event.RoomTypeImagesStagedEvent;
+import com.hotelmanager.model.enums.ImageUploadStatus;
+import com.hotelmanager.service.FilesService;
+import com.hotelmanager.service.RoomTypeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomTypeImageUploader {
+
+    private final FilesService filesService;
+    private final RoomTypeService roomTypeService;
+    private final AsyncTaskExecutor roomTypeImagesExecutor;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImagesStaged(RoomTypeImagesStagedEvent event) {
+        try {
+            this.roomTypeImagesExecutor.execute(() -> upload(event));
+        } catch (TaskRejectedException e) {
+            log.warn("Upload queue is full, rejected images for room type '{}'", event.getRoomTypeId());
+            discard(event);
+            this.roomTypeService.updateImageStatus(event.getRoomTypeId(), ImageUploadStatus.FAILED);
+        }
+    }
+
+    private void upload(RoomTypeImagesStagedEvent event) {
+        ImageUploadStatus status = ImageUploadStatus.UPLOADED;
+        try {
+            this.filesService.uploadRoomTypeImages(event.getRoomTypeId().toString(),
+                    event.getImages().toArray(MultipartFile[]::new));
+        } catch (RuntimeException e) {
+            log.warn("Failed to upload images for room type '{}': ", event.getRoomTypeId(), e);
+            status = ImageUploadStatus.FAILED;
+        } finally {
+            discard(event);
+        }
+
+        this.roomTypeService.updateImageStatus(event.getRoomTypeId(), status);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void discard(RoomTypeImagesStagedEvent event) {
+        event.getImages().forEach(StagedMultipartFile::delete);
+    }
+}
@@ -0,0 +1,80 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.exception.exceptions.NotEnoughRoomsAvailableException;
+import com.hotelmanager.model.entity.ReservationRoomType;
+import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.repository.RoomTypeInventoryRepository;
+import com.hotelmanager.service.RoomTypeInventoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.hotelmanager.exception.ExceptionMessages.NOT_ENOUGH_ROOMS_AVAILABLE;
+
+@Service
+@RequiredArgsConstructor
+public class RoomTypeInventoryServiceImpl implements RoomTypeInventoryService {
+
+    private final RoomTypeInventoryRepository inventoryRepository;
+    private final RoomRepository roomRepository;
+    private final RoomTypeAvailabilityIndex availabilityIndex;
+
+    @Transactional
+    @Override
+    public void reserve(LocalDate startDate, LocalDate endDate, Collection<ReservationRoomType> roomTypes) {
+        Map<UUID, RoomType> typesById = roomTypes.stream()
+                .map(ReservationRoomType::getRoomType)
+                .collect(Collectors.toMap(RoomType::getUuid, Function.identity(), (first, second) -> first));
+        Map<UUID, Integer> requestedRooms = roomTypes.stream()
+                .collect(Collectors.toMap(roomType -> roomType.getRoomType().getUuid(), ReservationRoomType::getRoomsCount, Integer::sum, TreeMap::new));
+        long nights = ChronoUnit.DAYS.between(startDate, endDate);
+
+        requestedRooms.forEach((roomTypeId, rooms) -> {
+            if (this.inventoryRepository.countStayRange(roomTypeId, startDate, endDate) < nights) {
+                int total = (int) this.roomRepository.countByRoomTypeUuidAndRoomStatusNot(roomTypeId, RoomStatus.UNDER_CONSTRUCTION);
+                for (LocalDate night = startDate; night.isBefore(endDate); night = night.plusDays(1)) {
+                    this.inventoryRepository.insertNightIfAbsent(roomTypeId, night, total);
+                }
+            }
+
+            if (this.inventoryRepository.bookNights(roomTypeId, startDate, endDate, rooms) < nights) {
+                throw notEnoughRooms(typesById.get(roomTypeId));
+            }
+        });
+
+        this.availabilityIndex.book(requestedRooms.keySet(), startDate, endDate);
+    }
+
+    @Transactional
+    @Override
+    public void roomAdded(UUID roomTypeId, RoomStatus roomStatus) {
+        adjustTotalRooms(roomTypeId, roomStatus, 1);
+    }
+
+    @Transactional
+    @Override
+    public void roomRemoved(UUID roomTypeId, RoomStatus roomStatus) {
+        adjustTotalRooms(roomTypeId, roomStatus, -1);
+    }
+
+    private void adjustTotalRooms(UUID roomTypeId, RoomStatus roomStatus, int delta) {
+        if (roomStatus == null || roomStatus == RoomStatus.UNDER_CONSTRUCTION) {
+            return;
+        }
+
+        this.inventoryRepository.adjustTotal(roomTypeId, LocalDate.now(), delta);
+        this.availabilityIndex.refreshTotalRooms(roomTypeId);
+    }
+
+    private static NotEnoughRoomsAvailableException notEnoughRooms(RoomType roomType) {
+        return new NotEnoughRoomsAvailableException(NOT_ENOUGH_ROOMS_AVAILABLE.formatted(roomType.getName()));
+    }
+}
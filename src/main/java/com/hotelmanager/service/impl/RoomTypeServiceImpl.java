@@ -1,13 +1,17 @@
 package com.hotelmanager.service.impl;
 
+import com.hotelmanager.event.RoomTypeImagesStagedEvent;
+import com.hotelmanager.exception.exceptions.FilesServiceUnavailableException;
 import com.hotelmanager.exception.exceptions.RoomTypeAlreadyExistsException;
 import com.hotelmanager.exception.exceptions.RoomTypeNotFoundException;
+import com.hotelmanager.mapper.RoomTypeMapper;
 import com.hotelmanager.model.dto.RoomTypeAvailability;
 import com.hotelmanager.model.dto.request.RoomTypeCreationDto;
 import com.hotelmanager.model.dto.response.ImageResponseDto;
 import com.hotelmanager.model.dto.response.RoomTypeDto;
 import com.hotelmanager.model.dto.response.RoomTypesPreview;
 import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.enums.ImageUploadStatus;
 import com.hotelmanager.repository.RoomTypeRepository;
 import com.hotelmanager.service.FilesService;
 import com.hotelmanager.service.RoomTypeService;
@@ -16,15 +20,23 @@ import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.hotelmanager.exception.ExceptionMessages.ROOM_TYPE_EXISTS;
@@ -37,49 +49,88 @@ public class RoomTypeServiceImpl implements RoomTypeService {
 
     private final RoomTypeRepository roomTypeRepository;
     private final ModelMapper modelMapper;
+    private final RoomTypeMapper roomTypeMapper;
     private final FilesService filesService;
     private final UserService userService;
+    private final RoomTypeAvailabilityIndex availabilityIndex;
+    private final RoomTypeCache roomTypeCache;
+    private final AsyncTaskExecutor filesServiceExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${files.service.batch-lookup:false}")
+    private boolean batchPhotoLookup;
+
+    @Value("${files.service.photos-fetch-parallelism:4}")
+    private int photosFetchParallelism;
+
+    @Value("${files.service.photos-fetch-timeout:2s}")
+    private Duration photosFetchTimeout;
 
     @Override
     public RoomType getEntityByName(String name) {
-        return this.roomTypeRepository.getByName(name).orElseThrow(() -> new RoomTypeNotFoundException(ROOM_TYPE_NOT_FOUND));
+        return Optional.ofNullable(this.roomTypeCache.idsByName().get(name))
+                .flatMap(this.roomTypeRepository::findById)
+                .orElseThrow(() -> new RoomTypeNotFoundException(ROOM_TYPE_NOT_FOUND));
+    }
+
+    @Override
+    public Map<String, RoomType> getEntitiesByNames(Collection<String> names) {
+        Map<String, UUID> idsByName = this.roomTypeCache.idsByName();
+        if (!idsByName.keySet().containsAll(names)) {
+            throw new RoomTypeNotFoundException(ROOM_TYPE_NOT_FOUND);
+        }
+
+        return names.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), name -> this.roomTypeRepository.findById(idsByName.get(name))
+                        .orElseThrow(() -> new RoomTypeNotFoundException(ROOM_TYPE_NOT_FOUND))));
     }
 
+    @Override
+    public RoomType getReference(UUID id) {
+        return this.roomTypeRepository.getReferenceById(id);
+    }
+
+    @Transactional
     @Override
     public RoomTypeDto createRoomType(RoomTypeCreationDto creationDto, MultipartFile[] images) {
         if (this.roomTypeRepository.existsByName(creationDto.getName())) {
             throw new RoomTypeAlreadyExistsException(ROOM_TYPE_EXISTS);
         }
 
+        List<MultipartFile> uploadableImages = images == null ? List.of() : Arrays.stream(images)
+                .filter(image -> !image.isEmpty())
+                .toList();
+
         RoomType roomType = this.modelMapper.map(creationDto, RoomType.class);
-        roomType.setCreatedBy(this.userService.getAuthenticationUser());
+        roomType.setCreatedBy(this.userService.getAuthenticationUserReference());
+        roomType.setImageStatus(uploadableImages.isEmpty() ? ImageUploadStatus.NONE : ImageUploadStatus.PENDING);
 
         RoomType createdRoomType = this.roomTypeRepository.save(roomType);
-        List<ImageResponseDto> uploadedImages = uploadImages(createdRoomType.getUuid(), images);
+        this.availabilityIndex.addRoomType(createdRoomType.getUuid(), createdRoomType.getName());
+        this.roomTypeCache.evict();
+
+        if (!uploadableImages.isEmpty()) {
+            List<StagedMultipartFile> stagedImages = stageImages(uploadableImages);
+            this.eventPublisher.publishEvent(new RoomTypeImagesStagedEvent(createdRoomType.getUuid(), stagedImages));
+        }
 
-        RoomTypeDto roomTypeDto = this.modelMapper.map(createdRoomType, RoomTypeDto.class);
-        roomTypeDto.setImages(uploadedImages);
+        RoomTypeDto roomTypeDto = this.roomTypeMapper.toDto(createdRoomType);
+        roomTypeDto.setImages(List.of());
         return roomTypeDto;
     }
 
     @Override
     public List<RoomTypeDto> getAllTypes() {
-        return this.roomTypeRepository.findAll(Sort.by("name"))
-                .stream()
+        List<RoomType> roomTypes = roomTypesByName();
+        Map<String, List<ImageResponseDto>> imagesByType = fetchImagesByType(roomTypes.stream()
+                .map(roomType -> roomType.getUuid().toString())
+                .toList());
+
+        return roomTypes.stream()
                 .map(roomType -> {
-                    RoomTypeDto roomTypeDto = this.modelMapper.map(roomType, RoomTypeDto.class);
-
-                    List<ImageResponseDto> images = new ArrayList<>();
-                    try {
-                        images = this.filesService.getPhotosByRoomType(roomType.getUuid().toString())
-                                .stream()
-                                .map(image -> this.modelMapper.map(image, ImageResponseDto.class))
-                                .toList();
-                    } catch (FeignException e) {
-                        log.warn("Failed to retrieve room type images! ", e);
-                    }
-
-                    roomTypeDto.setImages(images);
+                    RoomTypeDto roomTypeDto = this.roomTypeMapper.toDto(roomType);
+                    roomTypeDto.setImages(imagesByType.getOrDefault(roomType.getUuid().toString(), List.of()));
                     return roomTypeDto;
                 })
                 .toList();
@@ -87,30 +138,101 @@ public class RoomTypeServiceImpl implements RoomTypeService {
 
     @Override
     public List<RoomTypesPreview> getTypesPreview() {
-        return this.roomTypeRepository.findAll().stream()
-                .map(roomType -> this.modelMapper.map(roomType, RoomTypesPreview.class))
+        return roomTypesByName()
+                .stream()
+                .map(this.roomTypeMapper::toPreview)
                 .toList();
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public void updateImageStatus(UUID roomTypeId, ImageUploadStatus status) {
+        this.roomTypeRepository.updateImageStatus(roomTypeId, status);
+    }
+
     @Override
     public Map<String, RoomTypeAvailability> roomTypeAvailabilitiesMap(LocalDate startDate, LocalDate endDate) {
-        return this.roomTypeRepository
-                .availableRoomsByType(startDate, endDate)
+        return this.availabilityIndex.availabilities(startDate, endDate)
+                .orElseGet(() -> this.roomTypeRepository
+                        .availableRoomsByType(startDate, endDate)
+                        .stream()
+                        .collect(Collectors.toMap(RoomTypeAvailability::roomType, roomType -> roomType)));
+    }
+
+    private List<RoomType> roomTypesByName() {
+        return this.roomTypeCache.idsByName()
+                .values()
                 .stream()
-                .collect(Collectors.toMap(RoomTypeAvailability::roomType, roomType -> roomType));
+                .map(this.roomTypeRepository::findById)
+                .flatMap(Optional::stream)
+                .toList();
     }
 
-    private List<ImageResponseDto> uploadImages(UUID roomTypeId, MultipartFile[] images) {
-        List<ImageResponseDto> imageResponseDtos = new ArrayList<>();
+    private Map<String, List<ImageResponseDto>> fetchImagesByType(List<String> roomTypeIds) {
+        if (roomTypeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (this.batchPhotoLookup) {
+            try {
+                return this.filesService.getPhotosByRoomTypes(roomTypeIds)
+                        .entrySet()
+                        .stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> this.roomTypeMapper.toImageDtos(entry.getValue())));
+            } catch (FeignException | FilesServiceUnavailableException e) {
+                log.warn("Failed to retrieve room type images! ", e);
+                return Map.of();
+            }
+        }
+
+        Semaphore permits = new Semaphore(this.photosFetchParallelism);
+        long deadline = System.nanoTime() + this.photosFetchTimeout.toNanos();
+        Map<String, CompletableFuture<List<ImageResponseDto>>> imageFutures = new LinkedHashMap<>();
+        for (String roomTypeId : roomTypeIds) {
+            imageFutures.put(roomTypeId, CompletableFuture
+                    .supplyAsync(() -> fetchImages(roomTypeId, permits, deadline), this.filesServiceExecutor)
+                    .orTimeout(this.photosFetchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        log.warn("Failed to retrieve images for room type '{}': ", roomTypeId, e);
+                        return List.of();
+                    }));
+        }
+
+        Map<String, List<ImageResponseDto>> imagesByType = new HashMap<>();
+        imageFutures.forEach((roomTypeId, images) -> imagesByType.put(roomTypeId, images.join()));
+        return imagesByType;
+    }
+
+    private List<ImageResponseDto> fetchImages(String roomTypeId, Semaphore permits, long deadline) {
+        try {
+            if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return List.of();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+
+        try {
+            if (System.nanoTime() - deadline >= 0) {
+                return List.of();
+            }
+            return this.roomTypeMapper.toImageDtos(this.filesService.getPhotosByRoomType(roomTypeId));
+        } finally {
+            permits.release();
+        }
+    }
 
+    private List<StagedMultipartFile> stageImages(List<MultipartFile> images) {
+        List<StagedMultipartFile> stagedImages = new ArrayList<>();
         try {
-            imageResponseDtos = this.filesService.uploadRoomTypeImages(roomTypeId.toString(), images)
-                    .stream()
-                    .map(image -> this.modelMapper.map(image, ImageResponseDto.class))
-                    .toList();
-        } catch (FeignException e) {
-            log.warn("Failed to upload room type images! ", e);
+            for (MultipartFile image : images) {
+                stagedImages.add(StagedMultipartFile.stage(image));
+            }
+        } catch (IOException e) {
+            stagedImages.forEach(StagedMultipartFile::delete);
+            throw new UncheckedIOException(e);
         }
-        return imageResponseDtos;
+        return stagedImages;
     }
 }
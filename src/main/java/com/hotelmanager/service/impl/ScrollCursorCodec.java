@@ -0,0 +1,63 @@
+package com.hotelmanager.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.exception.exceptions.InvalidCursorException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.hotelmanager.exception.ExceptionMessages.INVALID_CURSOR;
+
+@Component
+@RequiredArgsConstructor
+public class ScrollCursorCodec {
+
+    private static final TypeReference<Map<String, Object>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public KeysetScrollPosition decode(Optional<String> cursor, Map<String, Class<?>> keyTypes) {
+        return cursor.filter(value -> !value.isBlank())
+                .map(value -> decode(value, keyTypes))
+                .orElseGet(ScrollPosition::keyset);
+    }
+
+    public String nextCursor(Window<?> window) {
+        if (!window.hasNext() || !(window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position)) {
+            return null;
+        }
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(this.objectMapper.writeValueAsBytes(position.getKeys()));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private KeysetScrollPosition decode(String cursor, Map<String, Class<?>> keyTypes) {
+        try {
+            Map<String, Object> rawKeys = this.objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+            if (!rawKeys.keySet().equals(keyTypes.keySet())) {
+                throw new InvalidCursorException(INVALID_CURSOR);
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            rawKeys.forEach((key, value) -> keys.put(key, this.objectMapper.convertValue(value, keyTypes.get(key))));
+
+            return ScrollPosition.forward(keys);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.hotelmanager.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@Slf4j
+public class StagedMultipartFile implements MultipartFile {
+
+    private final Path path;
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+
+    private StagedMultipartFile(Path path, MultipartFile source) {
+        this.path = path;
+        this.name = source.getName();
+        this.originalFilename = source.getOriginalFilename();
+        this.contentType = source.getContentType();
+        this.size = source.getSize();
+    }
+
+    public static StagedMultipartFile stage(MultipartFile source) throws IOException {
+        Path path = Files.createTempFile("room-type-image-", null);
+        try {
+            source.transferTo(path);
+            return new StagedMultipartFile(path, source);
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    public void delete() {
+        try {
+            Files.deleteIfExists(this.path);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged image '{}': ", this.path, e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return this.originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return this.size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(this.path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(this.path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(this.path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
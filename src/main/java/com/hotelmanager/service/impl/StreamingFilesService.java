@@ -0,0 +1,199 @@
+package com.hotelmanager.service.impl;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.config.FilesServiceAuthorization;
+import com.hotelmanager.config.FilesServiceHttpClientProperties;
+import com.hotelmanager.model.dto.feign.RoomPhotoDto;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.service.FilesService;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.entity.mime.InputStreamBody;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+@Slf4j
+@Component
+public class StreamingFilesService implements FilesService {
+
+    private static final String UPLOAD_PHOTOS_KEY = "FilesService#uploadPhotos(List,String,String)";
+    private static final String UPLOAD_ROOM_TYPE_IMAGES_KEY = "FilesService#uploadRoomTypeImages(String,MultipartFile[])";
+
+    private final FilesService delegate;
+    private final CloseableHttpClient httpClient;
+    private final FilesServiceAuthorization filesServiceAuthorization;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final RequestConfig requestConfig;
+    private final ErrorDecoder errorDecoder = new ErrorDecoder.Default();
+
+    public StreamingFilesService(@Qualifier("filesServiceClient") FilesService delegate,
+                                 CloseableHttpClient filesServiceHttpClient,
+                                 FilesServiceAuthorization filesServiceAuthorization,
+                                 FilesServiceHttpClientProperties properties,
+                                 ObjectMapper objectMapper,
+                                 @Value("${files.service.url}") String url,
+                                 @Value("${files.service.path}") String path) {
+        this.delegate = delegate;
+        this.httpClient = filesServiceHttpClient;
+        this.filesServiceAuthorization = filesServiceAuthorization;
+        this.objectMapper = objectMapper;
+        this.baseUrl = url + path;
+        this.requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.connectTimeout()))
+                .setResponseTimeout(Timeout.of(properties.readTimeout()))
+                .build();
+    }
+
+    @Override
+    public void createFile() {
+        this.delegate.createFile();
+    }
+
+    @Override
+    public RoomPhotoDto uploadPhotos(List<MultipartFile> files, String roomId, String roomTypeId) {
+        MultipartEntityBuilder entity = multipart()
+                .addTextBody("roomId", roomId)
+                .addTextBody("roomTypeId", roomTypeId);
+
+        return upload(UPLOAD_PHOTOS_KEY, "/upload-photo", entity, "files", files,
+                this.objectMapper.constructType(RoomPhotoDto.class));
+    }
+
+    @Override
+    public List<RoomPhotoDto> getPhotosByRoom(String roomId) {
+        return this.delegate.getPhotosByRoom(roomId);
+    }
+
+    @Override
+    public void deletePhoto(String publicId) {
+        this.delegate.deletePhoto(publicId);
+    }
+
+    @Override
+    public void deletePhotoByRoom(String roomId) {
+        this.delegate.deletePhotoByRoom(roomId);
+    }
+
+    @Override
+    public List<RoomTypePhotoDto> uploadRoomTypeImages(String roomTypeId, MultipartFile[] images) {
+        return upload(UPLOAD_ROOM_TYPE_IMAGES_KEY, "/room-type/" + roomTypeId, multipart(),
+                "images", List.of(images),
+                this.objectMapper.getTypeFactory().constructCollectionType(List.class, RoomTypePhotoDto.class));
+    }
+
+    @Override
+    public List<RoomTypePhotoDto> getPhotosByRoomType(String roomTypeId) {
+        return this.delegate.getPhotosByRoomType(roomTypeId);
+    }
+
+    @Override
+    public Map<String, List<RoomTypePhotoDto>> getPhotosByRoomTypes(Collection<String> roomTypeIds) {
+        return this.delegate.getPhotosByRoomTypes(roomTypeIds);
+    }
+
+    @Override
+    public void getRoomTypePhotoById(String publicId) {
+        this.delegate.getRoomTypePhotoById(publicId);
+    }
+
+    @Override
+    public void deleteRoomTypePhotosByRoomType(String roomTypeId) {
+        this.delegate.deleteRoomTypePhotosByRoomType(roomTypeId);
+    }
+
+    private <T> T upload(String methodKey, String path, MultipartEntityBuilder entity,
+                         String partName, List<MultipartFile> files, JavaType responseType) {
+        String url = this.baseUrl + path;
+        RequestTemplate template = new RequestTemplate();
+        this.filesServiceAuthorization.authorizationHeader()
+                .ifPresent(authHeader -> template.header(HttpHeaders.AUTHORIZATION, authHeader));
+        Request request = Request.create(Request.HttpMethod.POST, url, template.headers(), null, StandardCharsets.UTF_8, null);
+
+        HttpPost post = new HttpPost(url);
+        post.setConfig(this.requestConfig);
+        template.headers().forEach((name, values) -> values.forEach(value -> post.addHeader(name, value)));
+
+        List<InputStream> streams = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                InputStream stream = file.getInputStream();
+                streams.add(stream);
+                entity.addPart(partName, new InputStreamBody(stream, contentType(file),
+                        file.getOriginalFilename(), file.getSize()));
+            }
+            post.setEntity(entity.build());
+
+            return this.httpClient.execute(post, response -> {
+                HttpEntity body = response.getEntity();
+                if (response.getCode() >= 300) {
+                    throw this.errorDecoder.decode(methodKey, Response.builder()
+                            .status(response.getCode())
+                            .reason(response.getReasonPhrase())
+                            .request(request)
+                            .headers(headers(response))
+                            .body(body == null ? new byte[0] : EntityUtils.toByteArray(body))
+                            .build());
+                }
+
+                return body == null ? null : this.objectMapper.readValue(body.getContent(), responseType);
+            });
+        } catch (IOException e) {
+            throw new RetryableException(-1, e.getMessage(), Request.HttpMethod.POST, e, (Long) null, request);
+        } finally {
+            close(streams);
+        }
+    }
+
+    private static void close(List<InputStream> streams) {
+        for (InputStream stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                log.debug("Failed to close upload stream: ", e);
+            }
+        }
+    }
+
+    private static Map<String, Collection<String>> headers(ClassicHttpResponse response) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Header header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        return headers;
+    }
+
+    private static MultipartEntityBuilder multipart() {
+        return MultipartEntityBuilder.create()
+                .setCharset(StandardCharsets.UTF_8);
+    }
+
+    private static ContentType contentType(MultipartFile file) {
+        return file.getContentType() == null
+                ? ContentType.APPLICATION_OCTET_STREAM
+                : ContentType.parse(file.getContentType());
+    }
+}
@@ -0,0 +1,88 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDenyList {
+
+    private final UserRepository userRepository;
+
+    private final Lock lock = new ReentrantLock();
+
+    @Value("${security.jwt.stateless:false}")
+    private boolean enabled;
+
+    private volatile Set<UUID> deniedUserIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${security.jwt.deny-list.refresh-interval:30s}", initialDelayString = "${security.jwt.deny-list.refresh-interval:30s}")
+    public void refresh() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.lock.lock();
+        try {
+            Set<UUID> refreshed = ConcurrentHashMap.newKeySet();
+            refreshed.addAll(this.userRepository.findDisabledUserIds());
+            this.deniedUserIds = refreshed;
+
+            log.debug("User deny list refreshed with {} entries", refreshed.size());
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public boolean isDenied(UUID userId) {
+        return this.deniedUserIds.contains(userId);
+    }
+
+    public void deny(UUID userId) {
+        this.deniedUserIds.add(userId);
+        afterCommit(() -> update(() -> this.deniedUserIds.add(userId)));
+    }
+
+    public void allow(UUID userId) {
+        afterCommit(() -> update(() -> this.deniedUserIds.remove(userId)));
+    }
+
+    private void update(Runnable mutation) {
+        this.lock.lock();
+        try {
+            mutation.run();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,8 +3,10 @@ package com.hotelmanager.service.impl;
 import com.hotelmanager.exception.exceptions.PasswordsDoesNotMatchException;
 import com.hotelmanager.exception.exceptions.RolesNotFoundException;
 import com.hotelmanager.exception.exceptions.UserNotFoundException;
+import com.hotelmanager.mapper.UserMapper;
 import com.hotelmanager.model.dto.request.ProfilePasswordDto;
 import com.hotelmanager.model.dto.request.UserDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.ProfileDto;
 import com.hotelmanager.model.dto.response.UserDetailsDto;
 import com.hotelmanager.model.dto.response.UserPageDto;
@@ -16,8 +18,11 @@ import com.hotelmanager.service.UserService;
 import com.hotelmanager.validation.PageableValidator;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -26,6 +31,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -35,10 +42,18 @@ import static com.hotelmanager.exception.ExceptionMessages.*;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final Sort SCROLL_SORT = Sort.by("username");
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("username", String.class, "uuid", UUID.class);
+
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
     private final RoleService roleService;
     private final PasswordEncoder passwordEncoder;
+    private final UserDenyList userDenyList;
+    private final HotelUserDetailsService userDetailsService;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final PageTotalsCache pageTotalsCache;
 
     @Override
     @Transactional
@@ -47,6 +62,7 @@ public class UserServiceImpl implements UserService {
                 .ifPresent(user -> {
                     user.setLastLoginDateTime(LocalDateTime.now());
                     this.userRepository.save(user);
+                    this.userDetailsService.evict(username);
                 });
     }
 
@@ -54,7 +70,7 @@ public class UserServiceImpl implements UserService {
     public UUID createUser(UserDto userDto) {
         User user = this.modelMapper.map(userDto, User.class);
 
-        User creationUser = getAuthenticationUser();
+        User creationUser = getAuthenticationUserReference();
         user.setCreatedBy(creationUser);
         user.setRoles(fetchRolesByIds(userDto.getRoles()));
 
@@ -65,7 +81,7 @@ public class UserServiceImpl implements UserService {
     public ProfileDto getUserProfile() {
         User user = getAuthenticationUser();
 
-        return this.modelMapper.map(user, ProfileDto.class);
+        return this.userMapper.toProfileDto(user);
     }
 
     @Override
@@ -73,7 +89,22 @@ public class UserServiceImpl implements UserService {
         Page<User> users = this.userRepository.findAll(pageable);
         PageableValidator.validatePageRequest(users, pageable);
 
-        return users.map(user -> this.modelMapper.map(user, UserPageDto.class));
+        return users.map(this.userMapper::toPageDto);
+    }
+
+    @Override
+    public CursorPageResponse<UserPageDto> scrollUsers(Optional<String> cursor, int size, boolean includeTotal) {
+        PageableValidator.validateScrollSize(size);
+
+        Window<User> users = this.userRepository.findAllBy(this.scrollCursorCodec.decode(cursor, SCROLL_KEYS), SCROLL_SORT, Limit.of(size));
+
+        return new CursorPageResponse<>(
+                users.map(this.userMapper::toPageDto).getContent(),
+                size,
+                this.scrollCursorCodec.nextCursor(users),
+                users.hasNext(),
+                includeTotal ? this.pageTotalsCache.countUsers() : null
+        );
     }
 
     @Override
@@ -81,7 +112,7 @@ public class UserServiceImpl implements UserService {
         User user = this.userRepository.findById(UUID.fromString(id))
                 .orElseThrow(() -> new UserNotFoundException(NO_USER_FOUND_BY_ID));
 
-        return this.modelMapper.map(user, UserDetailsDto.class);
+        return this.userMapper.toDetailsDto(user);
     }
 
     @Override
@@ -90,13 +121,14 @@ public class UserServiceImpl implements UserService {
             throw new PasswordsDoesNotMatchException(NEW_PASSWORDS_DOES_NOT_MATCH);
         }
 
-        User user = getAuthenticationUser();
+        User user = findAuthenticationUser(SecurityContextHolder.getContext().getAuthentication());
         if (!this.passwordEncoder.matches(passwordDto.getOldPassword(), user.getPassword())) {
             throw new PasswordsDoesNotMatchException(OLD_PASSWORD_DOES_NOT_MATCH);
         }
 
         user.setPassword(this.passwordEncoder.encode(passwordDto.getNewPassword()));
         this.userRepository.save(user);
+        this.userDetailsService.evict(user.getUsername());
     }
 
     @Override
@@ -106,13 +138,28 @@ public class UserServiceImpl implements UserService {
         user.setEnabled(true);
 
         this.userRepository.save(user);
+        this.userDenyList.allow(user.getUuid());
+        this.userDetailsService.evict(user.getUsername());
     }
 
     @Override
     public User getAuthenticationUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return this.userRepository.findByUsername(auth.getName())
-                .orElseThrow(() -> new UsernameNotFoundException(NO_USER_FOUND_BY_USERNAME));
+        if (auth.getPrincipal() instanceof HotelUserDetails userDetails) {
+            return userDetails.user();
+        }
+
+        return findAuthenticationUser(auth);
+    }
+
+    @Override
+    public User getAuthenticationUserReference() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return switch (auth.getPrincipal()) {
+            case HotelUserDetails userDetails -> this.userRepository.getReferenceById(userDetails.user().getUuid());
+            case JwtUserPrincipal principal -> this.userRepository.getReferenceById(principal.id());
+            default -> findAuthenticationUser(auth);
+        };
     }
 
     @Override
@@ -122,6 +169,13 @@ public class UserServiceImpl implements UserService {
         user.setEnabled(false);
 
         this.userRepository.save(user);
+        this.userDenyList.deny(user.getUuid());
+        this.userDetailsService.evict(user.getUsername());
+    }
+
+    private User findAuthenticationUser(Authentication auth) {
+        return this.userRepository.findByUsername(auth.getName())
+                .orElseThrow(() -> new UsernameNotFoundException(NO_USER_FOUND_BY_USERNAME));
     }
 
     private Set<Role> fetchRolesByIds(Set<UUID> roleIds) {
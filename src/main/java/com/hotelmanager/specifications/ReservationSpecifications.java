@@ -11,6 +11,13 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ReservationSpecifications {
 
+    public static Specification<Reservation> filter(ReservationStatus status, LocalDate from, LocalDate to) {
+        return Specification.allOf(
+                status == null ? null : byReservationStatus(status),
+                betweenDate(from, to)
+        );
+    }
+
     public static Specification<Reservation> byReservationStatus(ReservationStatus status) {
         return ((root, query, cb) -> cb.equal(root.get("reservationStatus"), status));
     }
@@ -23,13 +30,16 @@ public final class ReservationSpecifications {
 
             if (from != null && to != null) {
                 return cb.and(
-                        cb.greaterThanOrEqualTo(root.get("startDate"), from),
+                        cb.between(root.get("startDate"), from, to),
                         cb.lessThanOrEqualTo(root.get("endDate"), to)
                 );
             } else if (from != null) {
                 return cb.greaterThanOrEqualTo(root.get("startDate"), from);
             } else {
-                return cb.lessThanOrEqualTo(root.get("endDate"), to);
+                return cb.and(
+                        cb.lessThanOrEqualTo(root.get("startDate"), to),
+                        cb.lessThanOrEqualTo(root.get("endDate"), to)
+                );
             }
         });
     }
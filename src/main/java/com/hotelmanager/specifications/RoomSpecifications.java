@@ -11,6 +11,13 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RoomSpecifications {
 
+    public static Specification<Room> filter(UUID type, RoomStatus status) {
+        return Specification.allOf(
+                type == null ? null : byRoomType(type),
+                status == null ? null : byRoomStatus(status)
+        );
+    }
+
     public static Specification<Room> byRoomType(UUID type) {
         return (root, query, cb) -> cb.equal(root.get("roomType").get("uuid"), type);
     }
@@ -6,13 +6,23 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import static com.hotelmanager.exception.ExceptionMessages.INVALID_SCROLL_SIZE;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PageableValidator {
 
+    public static final int MAX_SCROLL_SIZE = 100;
+
     public static void validatePageRequest(Page<?> page, Pageable pageable) {
         if (pageable.getPageNumber() >= page.getTotalPages() && page.getTotalPages() > 0) {
             throw new PageOutOfBoundsException("Requested page exceeds total pages. " +
                     "Max page index: " + (page.getTotalPages() - 1));
         }
     }
+
+    public static void validateScrollSize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new PageOutOfBoundsException(INVALID_SCROLL_SIZE.formatted(MAX_SCROLL_SIZE));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.hotelmanager.web;
 
 import com.hotelmanager.model.dto.request.ReservationCreationDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.PageResponse;
 import com.hotelmanager.model.dto.response.ReservationDetailsDto;
 import com.hotelmanager.model.dto.response.ReservationPageResponseDto;
@@ -65,4 +66,15 @@ public class ReservationController {
                 reservations.getTotalPages()
         );
     }
+
+    @PreAuthorize("hasAnyRole('ADMINISTRATOR', 'MANAGER', 'RECEPTIONIST')")
+    @GetMapping("/scroll")
+    public CursorPageResponse<ReservationPageResponseDto> scrollReservations(@RequestParam Optional<ReservationStatus> status,
+                                                                             @RequestParam Optional<LocalDate> fromDate,
+                                                                             @RequestParam Optional<LocalDate> toDate,
+                                                                             @RequestParam Optional<String> cursor,
+                                                                             @RequestParam(defaultValue = "10") int size,
+                                                                             @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return this.reservationService.scrollReservations(status, fromDate, toDate, cursor, size, includeTotal);
+    }
 }
@@ -2,6 +2,7 @@ package com.hotelmanager.web;
 
 import com.hotelmanager.model.dto.request.RoomCreationDto;
 import com.hotelmanager.model.dto.request.RoomUpdateDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.PageResponse;
 import com.hotelmanager.model.dto.response.RoomPageResponseDto;
 import com.hotelmanager.model.dto.response.RoomResponseDto;
@@ -67,6 +68,15 @@ public class RoomController {
         );
     }
 
+    @GetMapping("/scroll")
+    public CursorPageResponse<RoomPageResponseDto> scrollRooms(@RequestParam Optional<UUID> roomType,
+                                                               @RequestParam Optional<RoomStatus> roomStatus,
+                                                               @RequestParam Optional<String> cursor,
+                                                               @RequestParam(defaultValue = "10") int size,
+                                                               @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return this.roomService.scrollRooms(roomType, roomStatus, cursor, size, includeTotal);
+    }
+
     @PreAuthorize("hasAnyRole('ADMINISTRATOR', 'MANAGER')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteRoomById(@PathVariable String id) {
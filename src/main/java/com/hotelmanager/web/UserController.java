@@ -1,6 +1,7 @@
 package com.hotelmanager.web;
 
 import com.hotelmanager.model.dto.request.UserDto;
+import com.hotelmanager.model.dto.response.CursorPageResponse;
 import com.hotelmanager.model.dto.response.PageResponse;
 import com.hotelmanager.model.dto.response.UserDetailsDto;
 import com.hotelmanager.model.dto.response.UserPageDto;
@@ -16,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -53,6 +55,13 @@ public class UserController {
         return ResponseEntity.ok(usersPageResponse);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<UserPageDto>> scrollUsers(@RequestParam Optional<String> cursor,
+                                                                       @RequestParam(defaultValue = "10") int size,
+                                                                       @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(this.userService.scrollUsers(cursor, size, includeTotal));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserDetailsDto> getUserById(@NotNull @PathVariable String id) {
         return ResponseEntity.ok(this.userService.getUserById(id));
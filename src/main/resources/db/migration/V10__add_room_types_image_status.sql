@@ -0,0 +1,2 @@
+ALTER TABLE room_types
+    ADD COLUMN image_status VARCHAR(50) NOT NULL DEFAULT 'NONE' AFTER description;
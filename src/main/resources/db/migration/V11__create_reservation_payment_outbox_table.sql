@@ -0,0 +1,13 @@
+-- RESERVATION_PAYMENT_OUTBOX
+CREATE TABLE reservation_payment_outbox
+(
+    uuid                     UUID           NOT NULL,
+    reservation_id           UUID           NOT NULL,
+    reservation_payment_type VARCHAR(50)    NOT NULL,
+    accommodation_coast      DECIMAL(19, 2) NOT NULL,
+    created_date_time        DATETIME(6)    NOT NULL,
+
+    CONSTRAINT pk_reservation_payment_outbox PRIMARY KEY (uuid)
+);
+
+CREATE INDEX idx_reservation_payment_outbox_created ON reservation_payment_outbox (created_date_time);
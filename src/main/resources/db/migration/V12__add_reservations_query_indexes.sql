@@ -0,0 +1,4 @@
+-- RESERVATIONS
+CREATE INDEX idx_reservations_overlap ON reservations (is_deleted, end_date, start_date, reservation_status);
+CREATE INDEX idx_reservations_start_date ON reservations (start_date, uuid, end_date);
+CREATE INDEX idx_reservations_status_start_date ON reservations (reservation_status, start_date, uuid);
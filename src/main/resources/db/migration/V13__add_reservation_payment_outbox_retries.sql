@@ -0,0 +1,8 @@
+ALTER TABLE reservation_payment_outbox
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0 AFTER accommodation_coast,
+    ADD COLUMN next_attempt_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) AFTER attempts,
+    ADD COLUMN last_error VARCHAR(500) NULL AFTER next_attempt_at;
+
+DROP INDEX idx_reservation_payment_outbox_created ON reservation_payment_outbox;
+
+CREATE INDEX idx_reservation_payment_outbox_due ON reservation_payment_outbox (next_attempt_at);
@@ -0,0 +1,45 @@
+-- ROOM_TYPE_INVENTORY
+CREATE TABLE room_type_inventory
+(
+    room_type_id UUID NOT NULL,
+    stay_date    DATE NOT NULL,
+    total        INT  NOT NULL,
+    booked       INT  NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_room_type_inventory
+        PRIMARY KEY (room_type_id, stay_date),
+
+    CONSTRAINT fk_room_type_inventory_room_type
+        FOREIGN KEY (room_type_id) REFERENCES room_types (uuid)
+            ON DELETE CASCADE
+);
+
+INSERT INTO room_type_inventory (room_type_id, stay_date, total, booked)
+SELECT n.room_type_id,
+       n.stay_date,
+       (SELECT COUNT(*)
+        FROM rooms ro
+        WHERE ro.room_type_id = n.room_type_id
+          AND ro.room_status NOT IN ('UNDER_CONSTRUCTION')),
+       SUM(n.rooms_count)
+FROM (WITH RECURSIVE nights AS (SELECT rrt.room_type_id,
+                                       r.start_date AS stay_date,
+                                       r.end_date,
+                                       rrt.rooms_count
+                                FROM reservations r
+                                         JOIN reservations_room_types rrt
+                                              ON rrt.reservation_id = r.uuid
+                                WHERE r.is_deleted = FALSE
+                                  AND r.reservation_status NOT IN ('CANCELED', 'REJECTED')
+                                  AND r.end_date > CURRENT_DATE
+                                UNION ALL
+                                SELECT room_type_id,
+                                       stay_date + INTERVAL 1 DAY,
+                                       end_date,
+                                       rooms_count
+                                FROM nights
+                                WHERE stay_date + INTERVAL 1 DAY < end_date)
+      SELECT *
+      FROM nights) n
+WHERE n.stay_date >= CURRENT_DATE
+GROUP BY n.room_type_id, n.stay_date;
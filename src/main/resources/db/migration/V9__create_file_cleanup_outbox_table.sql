@@ -0,0 +1,16 @@
+-- FILE_CLEANUP_OUTBOX
+CREATE TABLE file_cleanup_outbox
+(
+    uuid              UUID         NOT NULL,
+    cleanup_type      VARCHAR(50)  NOT NULL,
+    resource_id       UUID         NOT NULL,
+    status            VARCHAR(50)  NOT NULL,
+    attempts          INT          NOT NULL DEFAULT 0,
+    next_attempt_at   DATETIME(6)  NOT NULL,
+    last_error        VARCHAR(500) NULL,
+    created_date_time DATETIME(6)  NOT NULL,
+
+    CONSTRAINT pk_file_cleanup_outbox PRIMARY KEY (uuid)
+);
+
+CREATE INDEX idx_file_cleanup_outbox_due ON file_cleanup_outbox (status, next_attempt_at);
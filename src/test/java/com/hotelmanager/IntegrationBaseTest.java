@@ -1,7 +1,16 @@
 package com.hotelmanager;
 
+import com.hotelmanager.service.impl.CachingFilesService;
+import com.hotelmanager.service.impl.RoomTypeAvailabilityIndex;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.jdbc.Sql;
 
 @SpringBootTest
@@ -9,4 +18,28 @@ import org.springframework.test.context.jdbc.Sql;
 @Sql(value = {"/db/users_and_roles.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @AutoConfigureMockMvc
 public abstract class IntegrationBaseTest {
+
+    @Autowired
+    private RoomTypeAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CachingFilesService cachingFilesService;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void resetInMemoryState() {
+        this.cacheManager.getCacheNames().forEach(name -> this.cacheManager.getCache(name).clear());
+        this.entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        this.cachingFilesService.invalidateAll();
+        this.circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
+        this.availabilityIndex.rebuild();
+    }
 }
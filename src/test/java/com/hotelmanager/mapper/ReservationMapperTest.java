@@ -0,0 +1,125 @@
+package com.hotelmanager.mapper;
+
+import com.hotelmanager.model.dto.response.ReservationDetailsDto;
+import com.hotelmanager.model.dto.response.ReservationPaymentDto;
+import com.hotelmanager.model.dto.response.ReservationRoomDto;
+import com.hotelmanager.model.entity.*;
+import com.hotelmanager.model.enums.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationMapperTest {
+
+    private final ReservationMapper reservationMapper = new ReservationMapperImpl();
+
+    private RoomType roomType;
+    private Room room;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        this.roomType = withUuid(RoomType.builder()
+                .name("STANDARD_DOUBLE_ROOM")
+                .basePricePerNight(BigDecimal.valueOf(120))
+                .capacity(2)
+                .build());
+        this.room = withUuid(Room.builder()
+                .roomNumber("101")
+                .roomType(this.roomType)
+                .bedTypes(List.of(BedType.DOUBLE))
+                .roomStatus(RoomStatus.AVAILABLE)
+                .build());
+        this.reservation = withUuid(Reservation.builder()
+                .firstName("John")
+                .lastName("Down")
+                .email("john@hotelmanager.com")
+                .phone("+1234567890")
+                .guestsCount(2)
+                .reservationStatus(ReservationStatus.RESERVATION_CONFIRMED)
+                .accommodationCoast(BigDecimal.valueOf(360))
+                .reservationPaymentType(ReservationPaymentType.FULL_PREPAY)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(3))
+                .rooms(Set.of(this.room))
+                .createdDateTime(LocalDateTime.now())
+                .build());
+        this.reservation.setRoomTypes(Set.of(ReservationRoomType.builder()
+                .reservation(this.reservation)
+                .roomType(this.roomType)
+                .roomsCount(1)
+                .build()));
+        this.reservation.setPayments(List.of(
+                payment(PaymentReason.ACCOMMODATION_PREPAID, null),
+                payment(PaymentReason.CONSUMATION, this.room)));
+    }
+
+    @Test
+    void toDetailsDto_shouldMapRoomsWithRoomTypeName() {
+        ReservationDetailsDto detailsDto = this.reservationMapper.toDetailsDto(this.reservation);
+
+        assertThat(detailsDto.getUuid()).isEqualTo(this.reservation.getUuid());
+        assertThat(detailsDto.getStartDate()).isEqualTo(this.reservation.getStartDate());
+        assertThat(detailsDto.getReservationCoast()).isNull();
+        assertThat(detailsDto.getRoomTypes()).singleElement().satisfies(roomTypeDto -> {
+            assertThat(roomTypeDto.getRoomTypeName()).isEqualTo("STANDARD_DOUBLE_ROOM");
+            assertThat(roomTypeDto.getRoomsCount()).isEqualTo(1);
+        });
+        assertThat(detailsDto.getRooms()).singleElement().satisfies(roomDto -> {
+            assertThat(roomDto.getUuid()).isEqualTo(this.room.getUuid());
+            assertThat(roomDto.getRoomNumber()).isEqualTo("101");
+            assertThat(roomDto.getRoomType()).isEqualTo("STANDARD_DOUBLE_ROOM");
+        });
+    }
+
+    @Test
+    void toDetailsDto_shouldMapPaymentRoomIds() {
+        ReservationDetailsDto detailsDto = this.reservationMapper.toDetailsDto(this.reservation);
+
+        assertThat(detailsDto.getPayments())
+                .extracting(ReservationPaymentDto::getRoomId)
+                .containsExactly(null, this.room.getUuid());
+        assertThat(detailsDto.getPayments().getFirst()).satisfies(paymentDto -> {
+            assertThat(paymentDto.getUuid()).isEqualTo(this.reservation.getPayments().getFirst().getUuid());
+            assertThat(paymentDto.getAmount()).isEqualByComparingTo("180");
+            assertThat(paymentDto.getReason()).isEqualTo(PaymentReason.ACCOMMODATION_PREPAID);
+            assertThat(paymentDto.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        });
+    }
+
+    @Test
+    void toRoomDto_shouldLeaveRoomTypeEmpty_whenRoomHasNoType() {
+        this.room.setRoomType(null);
+
+        ReservationRoomDto roomDto = this.reservationMapper.toRoomDto(this.room);
+
+        assertThat(roomDto.getRoomNumber()).isEqualTo("101");
+        assertThat(roomDto.getRoomType()).isNull();
+    }
+
+    private Payment payment(PaymentReason reason, Room room) {
+        return withUuid(Payment.builder()
+                .amount(BigDecimal.valueOf(180))
+                .paymentType(PaymentType.CARD_PAYMENT)
+                .reason(reason)
+                .status(PaymentStatus.PENDING)
+                .reservation(this.reservation)
+                .room(room)
+                .createdDateTime(LocalDateTime.now())
+                .build());
+    }
+
+    private static <T> T withUuid(T entity) {
+        ReflectionTestUtils.setField(entity, "uuid", UUID.randomUUID());
+        return entity;
+    }
+}
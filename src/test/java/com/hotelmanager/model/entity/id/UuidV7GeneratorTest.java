@@ -0,0 +1,40 @@
+package com.hotelmanager.model.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    @Test
+    void generateUuid_shouldProduceVersion7WithRfcVariant() {
+        UUID uuid = this.generator.generateUuid(null);
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void generateUuid_shouldEmbedCurrentUnixTimestampMillis() {
+        long before = System.currentTimeMillis();
+        UUID uuid = this.generator.generateUuid(null);
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1);
+    }
+
+    @Test
+    void generateUuid_shouldBeStrictlyIncreasingWithinTheSameMillisecond() {
+        List<UUID> uuids = IntStream.range(0, 10_000)
+                .mapToObj(i -> this.generator.generateUuid(null))
+                .toList();
+
+        assertThat(uuids).isSortedAccordingTo(UUID::compareTo).doesNotHaveDuplicates();
+    }
+}
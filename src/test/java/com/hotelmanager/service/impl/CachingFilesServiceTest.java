@@ -0,0 +1,69 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.model.dto.feign.RoomPhotoDto;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.service.FilesService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingFilesServiceTest {
+
+    private static final String ROOM_ID = "room-id";
+    private static final String ROOM_TYPE_ID = "room-type-id";
+
+    @Mock
+    private FilesService delegate;
+
+    private CachingFilesService filesService;
+
+    @BeforeEach
+    void setUp() {
+        this.filesService = new CachingFilesService(this.delegate, new TaskExecutorAdapter(Runnable::run),
+                new SimpleMeterRegistry(), Duration.ofMinutes(10), Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void getPhotosByRoom_shouldCallFilesServiceOnce_whenCalledRepeatedly() {
+        List<RoomPhotoDto> photos = List.of(new RoomPhotoDto());
+        when(this.delegate.getPhotosByRoom(ROOM_ID)).thenReturn(photos);
+
+        assertThat(this.filesService.getPhotosByRoom(ROOM_ID)).isEqualTo(photos);
+        assertThat(this.filesService.getPhotosByRoom(ROOM_ID)).isEqualTo(photos);
+
+        verify(this.delegate, times(1)).getPhotosByRoom(ROOM_ID);
+    }
+
+    @Test
+    void deletePhotoByRoom_shouldEvictRoomPhotos() {
+        when(this.delegate.getPhotosByRoom(ROOM_ID)).thenReturn(List.of());
+
+        this.filesService.getPhotosByRoom(ROOM_ID);
+        this.filesService.deletePhotoByRoom(ROOM_ID);
+        this.filesService.getPhotosByRoom(ROOM_ID);
+
+        verify(this.delegate, times(2)).getPhotosByRoom(ROOM_ID);
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldEvictRoomTypePhotos() {
+        when(this.delegate.getPhotosByRoomType(ROOM_TYPE_ID)).thenReturn(List.of(new RoomTypePhotoDto()));
+
+        this.filesService.getPhotosByRoomType(ROOM_TYPE_ID);
+        this.filesService.uploadRoomTypeImages(ROOM_TYPE_ID, null);
+        this.filesService.getPhotosByRoomType(ROOM_TYPE_ID);
+
+        verify(this.delegate, times(2)).getPhotosByRoomType(ROOM_TYPE_ID);
+    }
+}
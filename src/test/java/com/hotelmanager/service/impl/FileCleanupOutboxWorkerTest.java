@@ -0,0 +1,181 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.config.FeignConfiguration;
+import com.hotelmanager.config.FilesServiceAuthorization;
+import com.hotelmanager.exception.exceptions.FilesServiceUnavailableException;
+import com.hotelmanager.model.entity.FileCleanupTask;
+import com.hotelmanager.model.enums.FileCleanupStatus;
+import com.hotelmanager.model.enums.FileCleanupType;
+import com.hotelmanager.service.FileCleanupOutboxService;
+import com.hotelmanager.service.FilesService;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileCleanupOutboxWorkerTest {
+
+    @Mock
+    private FileCleanupOutboxService fileCleanupOutboxService;
+
+    @Mock
+    private FilesService filesService;
+
+    @Spy
+    private FilesServiceAuthorization filesServiceAuthorization = new FilesServiceAuthorization("cleanup-token");
+
+    @InjectMocks
+    private FileCleanupOutboxWorker worker;
+
+    @Test
+    void drain_shouldCompleteDeletedAndMissingRoomPhotosInOneBatch() {
+        FileCleanupTask deleted = task();
+        FileCleanupTask missing = task();
+        when(this.fileCleanupOutboxService.claimDueTasks()).thenReturn(List.of(deleted, missing));
+        doNothing().when(this.filesService).deletePhotoByRoom(deleted.getResourceId().toString());
+        doThrow(notFound()).when(this.filesService).deletePhotoByRoom(missing.getResourceId().toString());
+
+        assertThat(this.worker.drain()).isEqualTo(2);
+
+        verify(this.fileCleanupOutboxService).complete(List.of(deleted.getUuid(), missing.getUuid()));
+        verify(this.fileCleanupOutboxService, never()).reschedule(any(), anyString());
+    }
+
+    @Test
+    void drain_shouldRescheduleTask_whenFilesServiceIsUnavailable() {
+        FileCleanupTask failed = task();
+        when(this.fileCleanupOutboxService.claimDueTasks()).thenReturn(List.of(failed));
+        doThrow(new FilesServiceUnavailableException("unavailable", null))
+                .when(this.filesService).deletePhotoByRoom(failed.getResourceId().toString());
+
+        this.worker.drain();
+
+        verify(this.fileCleanupOutboxService).reschedule(eq(failed.getUuid()), eq("unavailable"));
+        verify(this.fileCleanupOutboxService).complete(List.of());
+    }
+
+    @Test
+    void drain_shouldFailTaskWithoutRetry_whenFilesServiceRejectsTheRequest() {
+        FileCleanupTask badRequest = task();
+        FileCleanupTask conflict = task();
+        when(this.fileCleanupOutboxService.claimDueTasks()).thenReturn(List.of(badRequest, conflict));
+        doThrow(clientError(400)).when(this.filesService).deletePhotoByRoom(badRequest.getResourceId().toString());
+        doThrow(clientError(409)).when(this.filesService).deletePhotoByRoom(conflict.getResourceId().toString());
+
+        this.worker.drain();
+
+        verify(this.fileCleanupOutboxService).fail(eq(badRequest.getUuid()), anyString());
+        verify(this.fileCleanupOutboxService).fail(eq(conflict.getUuid()), anyString());
+        verify(this.fileCleanupOutboxService, never()).reschedule(any(), any());
+        verify(this.fileCleanupOutboxService).complete(List.of());
+    }
+
+    @Test
+    void drain_shouldRescheduleTask_whenFilesServiceRejectsTheCredential() {
+        FileCleanupTask unauthorized = task();
+        FileCleanupTask forbidden = task();
+        when(this.fileCleanupOutboxService.claimDueTasks()).thenReturn(List.of(unauthorized, forbidden));
+        doThrow(clientError(401)).when(this.filesService).deletePhotoByRoom(unauthorized.getResourceId().toString());
+        doThrow(clientError(403)).when(this.filesService).deletePhotoByRoom(forbidden.getResourceId().toString());
+
+        this.worker.drain();
+
+        verify(this.fileCleanupOutboxService).reschedule(eq(unauthorized.getUuid()), any());
+        verify(this.fileCleanupOutboxService).reschedule(eq(forbidden.getUuid()), any());
+        verify(this.fileCleanupOutboxService, never()).fail(any(), any());
+    }
+
+    @Test
+    void drain_shouldRescheduleTask_whenFilesServiceIsThrottling() {
+        FileCleanupTask throttled = task();
+        when(this.fileCleanupOutboxService.claimDueTasks()).thenReturn(List.of(throttled));
+        doThrow(clientError(429)).when(this.filesService).deletePhotoByRoom(throttled.getResourceId().toString());
+
+        this.worker.drain();
+
+        verify(this.fileCleanupOutboxService).reschedule(eq(throttled.getUuid()), any());
+        verify(this.fileCleanupOutboxService, never()).fail(any(), any());
+    }
+
+    @Test
+    void drain_shouldSendServiceCredential_whenDeletingRoomPhotos() throws IOException {
+        AtomicReference<String> receivedAuthorization = new AtomicReference<>();
+        AtomicReference<String> receivedPath = new AtomicReference<>();
+        HttpServer filesServiceStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        filesServiceStub.createContext("/", exchange -> {
+            receivedAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            receivedPath.set(exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        filesServiceStub.start();
+
+        try {
+            FilesService feignFilesService = Feign.builder()
+                    .contract(new SpringMvcContract())
+                    .requestInterceptor(new FeignConfiguration().authorizationInterceptor(this.filesServiceAuthorization))
+                    .target(FilesService.class, "http://localhost:" + filesServiceStub.getAddress().getPort());
+            FileCleanupOutboxWorker feignWorker = new FileCleanupOutboxWorker(
+                    this.fileCleanupOutboxService, feignFilesService, this.filesServiceAuthorization);
+            FileCleanupTask task = task();
+            when(this.fileCleanupOutboxService.claimDueTasks()).thenReturn(List.of(task));
+
+            feignWorker.drain();
+
+            assertThat(receivedPath.get()).isEqualTo("/room/" + task.getResourceId());
+            assertThat(receivedAuthorization.get()).isEqualTo("Bearer cleanup-token");
+            verify(this.fileCleanupOutboxService).complete(List.of(task.getUuid()));
+        } finally {
+            filesServiceStub.stop(0);
+        }
+    }
+
+    private static FileCleanupTask task() {
+        FileCleanupTask task = FileCleanupTask.builder()
+                .cleanupType(FileCleanupType.ROOM_PHOTOS)
+                .resourceId(UUID.randomUUID())
+                .status(FileCleanupStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(task, "uuid", UUID.randomUUID());
+        return task;
+    }
+
+    private static FeignException notFound() {
+        return clientError(404);
+    }
+
+    private static FeignException clientError(int status) {
+        Request request = Request.create(Request.HttpMethod.DELETE, "/room", Map.of(), null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("FilesService#deletePhotoByRoom(String)", Response.builder()
+                .status(status)
+                .reason("Client Error")
+                .request(request)
+                .headers(Map.of())
+                .build());
+    }
+}
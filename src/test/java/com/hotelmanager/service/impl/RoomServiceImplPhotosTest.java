@@ -0,0 +1,119 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.exception.exceptions.FilesServiceUnavailableException;
+import com.hotelmanager.mapper.RoomPhotoMapper;
+import com.hotelmanager.model.dto.feign.RoomPhotoDto;
+import com.hotelmanager.model.dto.response.RoomResponseDto;
+import com.hotelmanager.model.entity.Room;
+import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.service.FilesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomServiceImplPhotosTest {
+
+    private static final Duration PHOTOS_FETCH_TIMEOUT = Duration.ofMillis(200);
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomPhotoMapper roomPhotoMapper;
+
+    @Mock
+    private FilesService filesService;
+
+    @Spy
+    private AsyncTaskExecutor filesServiceExecutor = new SimpleAsyncTaskExecutor("files-service-test-");
+
+    @InjectMocks
+    private RoomServiceImpl roomService;
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(this.roomService, "photosFetchTimeout", PHOTOS_FETCH_TIMEOUT);
+
+        RoomType roomType = RoomType.builder()
+                .name("STANDARD_DOUBLE_ROOM")
+                .capacity(2)
+                .basePricePerNight(BigDecimal.valueOf(100))
+                .build();
+        ReflectionTestUtils.setField(roomType, "uuid", UUID.randomUUID());
+
+        this.room = Room.builder()
+                .roomNumber("101")
+                .roomType(roomType)
+                .bedTypes(List.of(BedType.DOUBLE))
+                .roomStatus(RoomStatus.AVAILABLE)
+                .build();
+        ReflectionTestUtils.setField(this.room, "uuid", UUID.randomUUID());
+
+        when(this.roomRepository.findWithRoomTypeByUuid(this.room.getUuid())).thenReturn(Optional.of(this.room));
+    }
+
+    @Test
+    void getRoomById_shouldReturnRoomWithoutPhotos_whenFilesServiceIsSlow() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(this.filesService.getPhotosByRoom(this.room.getUuid().toString())).thenAnswer(invocation -> {
+            release.await();
+            return List.of(new RoomPhotoDto());
+        });
+        when(this.filesService.getPhotosByRoomType(this.room.getRoomType().getUuid().toString())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        try {
+            long start = System.nanoTime();
+            RoomResponseDto response = this.roomService.getRoomById(this.room.getUuid().toString());
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(PHOTOS_FETCH_TIMEOUT.multipliedBy(10));
+            assertRoomWithoutPhotos(response);
+            verifyNoInteractions(this.roomPhotoMapper);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void getRoomById_shouldReturnRoomWithoutPhotos_whenFilesServiceFails() {
+        when(this.filesService.getPhotosByRoom(this.room.getUuid().toString()))
+                .thenThrow(new FilesServiceUnavailableException("unavailable", null));
+        when(this.filesService.getPhotosByRoomType(this.room.getRoomType().getUuid().toString()))
+                .thenThrow(new IllegalStateException("decoder failed"));
+
+        assertRoomWithoutPhotos(this.roomService.getRoomById(this.room.getUuid().toString()));
+    }
+
+    private void assertRoomWithoutPhotos(RoomResponseDto response) {
+        assertThat(response.getUuid()).isEqualTo(this.room.getUuid());
+        assertThat(response.getRoomNumber()).isEqualTo("101");
+        assertThat(response.getRoomType()).isEqualTo("STANDARD_DOUBLE_ROOM");
+        assertThat(response.getPhotos()).isEmpty();
+        assertThat(response.getRoomTypePhotos()).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.event.RoomTypeImagesStagedEvent;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.model.enums.ImageUploadStatus;
+import com.hotelmanager.service.FilesService;
+import com.hotelmanager.service.RoomTypeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomTypeImageUploaderTest {
+
+    private static final UUID ROOM_TYPE_ID = UUID.randomUUID();
+
+    @Mock
+    private FilesService filesService;
+
+    @Mock
+    private RoomTypeService roomTypeService;
+
+    @Mock
+    private StagedMultipartFile image;
+
+    private RoomTypeImagesStagedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        this.event = new RoomTypeImagesStagedEvent(ROOM_TYPE_ID, List.of(this.image));
+    }
+
+    @Test
+    void onImagesStaged_shouldMarkImagesUploaded_whenFilesServiceAcceptsUpload() {
+        when(this.filesService.uploadRoomTypeImages(eq(ROOM_TYPE_ID.toString()), any(MultipartFile[].class)))
+                .thenReturn(List.of(new RoomTypePhotoDto()));
+
+        uploader(new TaskExecutorAdapter(Runnable::run)).onImagesStaged(this.event);
+
+        verify(this.roomTypeService).updateImageStatus(ROOM_TYPE_ID, ImageUploadStatus.UPLOADED);
+        verify(this.image).delete();
+    }
+
+    @Test
+    void onImagesStaged_shouldMarkImagesFailed_whenUploadThrowsUnexpectedException() {
+        when(this.filesService.uploadRoomTypeImages(eq(ROOM_TYPE_ID.toString()), any(MultipartFile[].class)))
+                .thenThrow(new IllegalStateException("decoder failed"));
+
+        uploader(new TaskExecutorAdapter(Runnable::run)).onImagesStaged(this.event);
+
+        verify(this.roomTypeService).updateImageStatus(ROOM_TYPE_ID, ImageUploadStatus.FAILED);
+        verify(this.image).delete();
+    }
+
+    @Test
+    void onImagesStaged_shouldMarkImagesFailedWithoutUploading_whenUploadQueueIsFull() {
+        AsyncTaskExecutor executor = mock(AsyncTaskExecutor.class);
+        doThrow(new TaskRejectedException("queue full")).when(executor).execute(any(Runnable.class));
+
+        uploader(executor).onImagesStaged(this.event);
+
+        verify(this.roomTypeService).updateImageStatus(ROOM_TYPE_ID, ImageUploadStatus.FAILED);
+        verify(this.image).delete();
+        verifyNoInteractions(this.filesService);
+    }
+
+    private RoomTypeImageUploader uploader(AsyncTaskExecutor executor) {
+        return new RoomTypeImageUploader(this.filesService, this.roomTypeService, executor);
+    }
+}
@@ -0,0 +1,170 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.exception.exceptions.FilesServiceUnavailableException;
+import com.hotelmanager.mapper.RoomTypeMapper;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.model.dto.response.ImageResponseDto;
+import com.hotelmanager.model.dto.response.RoomTypeDto;
+import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.repository.RoomTypeRepository;
+import com.hotelmanager.service.FilesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomTypeServiceImplTest {
+
+    private static final int ROOM_TYPES = 6;
+    private static final int PARALLELISM = 2;
+
+    @Mock
+    private FilesService filesService;
+
+    @Mock
+    private RoomTypeCache roomTypeCache;
+
+    @Mock
+    private RoomTypeRepository roomTypeRepository;
+
+    @Spy
+    private RoomTypeMapper roomTypeMapper = Mappers.getMapper(RoomTypeMapper.class);
+
+    @Spy
+    private AsyncTaskExecutor filesServiceExecutor = new SimpleAsyncTaskExecutor("files-service-test-");
+
+    @InjectMocks
+    private RoomTypeServiceImpl roomTypeService;
+
+    private List<RoomType> roomTypes;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(this.roomTypeService, "photosFetchParallelism", PARALLELISM);
+        ReflectionTestUtils.setField(this.roomTypeService, "photosFetchTimeout", Duration.ofSeconds(5));
+
+        this.roomTypes = IntStream.range(0, ROOM_TYPES)
+                .mapToObj(index -> roomType("ROOM_TYPE_" + index))
+                .toList();
+        when(this.roomTypeCache.idsByName()).thenReturn(this.roomTypes.stream()
+                .collect(Collectors.toMap(RoomType::getName, RoomType::getUuid, (first, second) -> first, LinkedHashMap::new)));
+        this.roomTypes.forEach(roomType -> when(this.roomTypeRepository.findById(roomType.getUuid())).thenReturn(Optional.of(roomType)));
+    }
+
+    @Test
+    void getAllTypes_shouldLookUpAllPhotosInOneCall_whenBatchLookupIsEnabled() {
+        ReflectionTestUtils.setField(this.roomTypeService, "batchPhotoLookup", true);
+        when(this.filesService.getPhotosByRoomTypes(anyCollection())).thenReturn(this.roomTypes.stream()
+                .collect(Collectors.toMap(roomType -> id(roomType), roomType -> List.of(photo(roomType)))));
+
+        List<RoomTypeDto> result = this.roomTypeService.getAllTypes();
+
+        assertThat(result).hasSize(ROOM_TYPES).allSatisfy(roomTypeDto -> assertThat(roomTypeDto.getImages())
+                .singleElement()
+                .extracting(ImageResponseDto::getRoomTypeId)
+                .isEqualTo(roomTypeDto.getUuid().toString()));
+        verify(this.filesService).getPhotosByRoomTypes(this.roomTypes.stream().map(RoomTypeServiceImplTest::id).toList());
+        verify(this.filesService, never()).getPhotosByRoomType(anyString());
+    }
+
+    @Test
+    void getAllTypes_shouldReturnTypesWithoutImages_whenBatchLookupFails() {
+        ReflectionTestUtils.setField(this.roomTypeService, "batchPhotoLookup", true);
+        when(this.filesService.getPhotosByRoomTypes(anyCollection()))
+                .thenThrow(new FilesServiceUnavailableException("unavailable", null));
+
+        assertThat(this.roomTypeService.getAllTypes())
+                .hasSize(ROOM_TYPES)
+                .allSatisfy(roomTypeDto -> assertThat(roomTypeDto.getImages()).isEmpty());
+    }
+
+    @Test
+    void getAllTypes_shouldFanOutWithBoundedParallelism_whenBatchLookupIsDisabled() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(this.filesService.getPhotosByRoomType(anyString())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                RoomTypePhotoDto photo = new RoomTypePhotoDto();
+                photo.setRoomTypeId(invocation.getArgument(0));
+                return List.of(photo);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        List<RoomTypeDto> result = this.roomTypeService.getAllTypes();
+
+        assertThat(result).hasSize(ROOM_TYPES).allSatisfy(roomTypeDto -> assertThat(roomTypeDto.getImages())
+                .singleElement()
+                .extracting(ImageResponseDto::getRoomTypeId)
+                .isEqualTo(roomTypeDto.getUuid().toString()));
+        assertThat(maxInFlight.get()).isBetween(1, PARALLELISM);
+        verify(this.filesService, times(ROOM_TYPES)).getPhotosByRoomType(anyString());
+    }
+
+    @Test
+    void getAllTypes_shouldNotCallFilesServiceForQueuedTypes_afterTheFetchTimeout() {
+        ReflectionTestUtils.setField(this.roomTypeService, "photosFetchParallelism", 1);
+        ReflectionTestUtils.setField(this.roomTypeService, "photosFetchTimeout", Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        when(this.filesService.getPhotosByRoomType(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        try {
+            assertThat(this.roomTypeService.getAllTypes())
+                    .hasSize(ROOM_TYPES)
+                    .allSatisfy(roomTypeDto -> assertThat(roomTypeDto.getImages()).isEmpty());
+        } finally {
+            release.countDown();
+        }
+
+        verify(this.filesService, after(300).times(1)).getPhotosByRoomType(anyString());
+    }
+
+    private static RoomType roomType(String name) {
+        RoomType roomType = RoomType.builder()
+                .name(name)
+                .capacity(2)
+                .build();
+        ReflectionTestUtils.setField(roomType, "uuid", UUID.randomUUID());
+        return roomType;
+    }
+
+    private static RoomTypePhotoDto photo(RoomType roomType) {
+        return RoomTypePhotoDto.builder()
+                .roomTypeId(id(roomType))
+                .publicId("room-type/" + roomType.getName())
+                .build();
+    }
+
+    private static String id(RoomType roomType) {
+        return roomType.getUuid().toString();
+    }
+}
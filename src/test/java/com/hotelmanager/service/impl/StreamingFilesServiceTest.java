@@ -0,0 +1,258 @@
+package com.hotelmanager.service.impl;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hotelmanager.config.FilesServiceAuthorization;
+import com.hotelmanager.config.FilesServiceHttpClientConfiguration;
+import com.hotelmanager.config.FilesServiceHttpClientProperties;
+import com.hotelmanager.model.dto.feign.RoomTypePhotoDto;
+import com.hotelmanager.service.FilesService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import feign.RetryableException;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingFilesServiceTest {
+
+    private static final long IMAGE_SIZE = 32L * 1024 * 1024;
+    private static final String ROOM_TYPE_ID = "room-type-id";
+    private static final String REQUEST_ID = "request-id";
+    private static final String PHOTOS_RESPONSE = """
+            [{"roomTypeId":"room-type-id","publicId":"room-type/photo","secureUrl":"https://cdn/photo.jpg"}]
+            """;
+
+    @Mock
+    private FilesService delegate;
+
+    private HttpServer filesServiceStub;
+    private CloseableHttpClient httpClient;
+    private StreamingFilesService filesService;
+
+    private volatile int responseStatus;
+    private volatile long receivedBytes;
+    private volatile String receivedContentType;
+    private volatile String receivedAuthorization;
+    private volatile String receivedPath;
+    private volatile Duration responseDelay;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.responseStatus = 200;
+        this.responseDelay = Duration.ZERO;
+        this.filesServiceStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.filesServiceStub.createContext("/", this::handle);
+        this.filesServiceStub.start();
+
+        this.httpClient = new FilesServiceHttpClientConfiguration().filesServiceHttpClient(properties(Duration.ofSeconds(10)));
+        this.filesService = streamingFilesService(Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.httpClient.close();
+        this.filesServiceStub.stop(0);
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldStreamImagesWithoutReadingThemIntoMemory() {
+        List<RoomTypePhotoDto> photos = this.filesService.uploadRoomTypeImages(ROOM_TYPE_ID,
+                new MultipartFile[]{new StreamOnlyMultipartFile("first.jpg"), new StreamOnlyMultipartFile("second.jpg")});
+
+        assertThat(photos).singleElement()
+                .satisfies(photo -> assertThat(photo.getPublicId()).isEqualTo("room-type/photo"));
+        assertThat(this.receivedPath).isEqualTo("/api/room-type/" + ROOM_TYPE_ID);
+        assertThat(this.receivedContentType).startsWith("multipart/form-data").contains("boundary=");
+        assertThat(this.receivedAuthorization).isEqualTo("Bearer token");
+        assertThat(this.receivedBytes).isGreaterThan(2 * IMAGE_SIZE);
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldThrowFeignServerException_whenFilesServiceFails() {
+        this.responseStatus = 500;
+
+        assertThatThrownBy(() -> this.filesService.uploadRoomTypeImages(ROOM_TYPE_ID,
+                new MultipartFile[]{new StreamOnlyMultipartFile("image.jpg")}))
+                .isInstanceOf(FeignException.FeignServerException.class);
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldDecodeErrorWithResponseHeaders_whenFilesServiceRejectsUpload() {
+        this.responseStatus = 400;
+
+        assertThatThrownBy(() -> this.filesService.uploadRoomTypeImages(ROOM_TYPE_ID,
+                new MultipartFile[]{new StreamOnlyMultipartFile("image.jpg")}))
+                .isInstanceOfSatisfying(FeignException.BadRequest.class, e -> {
+                    assertThat(e.status()).isEqualTo(400);
+                    assertThat(e.responseHeaders().get("X-Request-Id")).containsExactly(REQUEST_ID);
+                });
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldThrowRetryableException_whenFilesServiceAsksToRetryLater() {
+        this.responseStatus = 503;
+
+        assertThatThrownBy(() -> this.filesService.uploadRoomTypeImages(ROOM_TYPE_ID,
+                new MultipartFile[]{new StreamOnlyMultipartFile("image.jpg")}))
+                .isInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldTimeOut_whenFilesServiceDoesNotRespondWithinReadTimeout() {
+        this.responseDelay = Duration.ofSeconds(1);
+        StreamingFilesService filesService = streamingFilesService(Duration.ofMillis(200));
+
+        assertThatThrownBy(() -> filesService.uploadRoomTypeImages(ROOM_TYPE_ID,
+                new MultipartFile[]{new StreamOnlyMultipartFile("image.jpg")}))
+                .isInstanceOf(RetryableException.class)
+                .hasCauseInstanceOf(SocketTimeoutException.class);
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldCloseImageStreams_whenConnectFails() throws IOException {
+        StreamingFilesService filesService = streamingFilesService("http://localhost:" + closedPort(), Duration.ofSeconds(10));
+        StreamOnlyMultipartFile first = new StreamOnlyMultipartFile("first.jpg");
+        StreamOnlyMultipartFile second = new StreamOnlyMultipartFile("second.jpg");
+
+        assertThatThrownBy(() -> filesService.uploadRoomTypeImages(ROOM_TYPE_ID, new MultipartFile[]{first, second}))
+                .isInstanceOf(RetryableException.class)
+                .hasCauseInstanceOf(ConnectException.class);
+
+        assertThat(first.streamClosed).isTrue();
+        assertThat(second.streamClosed).isTrue();
+    }
+
+    @Test
+    void uploadRoomTypeImages_shouldCloseOpenedStreams_whenLaterImageCannotBeOpened() {
+        StreamOnlyMultipartFile opened = new StreamOnlyMultipartFile("first.jpg");
+        MultipartFile unreadable = new MockMultipartFile("images", "second.jpg", "image/jpeg", new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("staged image is gone");
+            }
+        };
+
+        assertThatThrownBy(() -> this.filesService.uploadRoomTypeImages(ROOM_TYPE_ID, new MultipartFile[]{opened, unreadable}))
+                .isInstanceOf(RetryableException.class);
+
+        assertThat(opened.streamClosed).isTrue();
+        assertThat(this.receivedPath).isNull();
+    }
+
+    private StreamingFilesService streamingFilesService(Duration readTimeout) {
+        return streamingFilesService("http://localhost:" + this.filesServiceStub.getAddress().getPort(), readTimeout);
+    }
+
+    private StreamingFilesService streamingFilesService(String url, Duration readTimeout) {
+        return new StreamingFilesService(this.delegate, this.httpClient, new FilesServiceAuthorization("token"),
+                properties(readTimeout), JsonMapper.builder().findAndAddModules().build(), url, "/api");
+    }
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static FilesServiceHttpClientProperties properties(Duration readTimeout) {
+        return new FilesServiceHttpClientProperties(Duration.ofSeconds(2), readTimeout, 10, 10,
+                Duration.ofMinutes(1), Duration.ofSeconds(30), FilesServiceHttpClientProperties.Transport.DEFAULT);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        this.receivedPath = exchange.getRequestURI().getPath();
+        this.receivedContentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        this.receivedAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+        this.receivedBytes = exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+        try {
+            Thread.sleep(this.responseDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = this.responseStatus == 200 ? PHOTOS_RESPONSE.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("X-Request-Id", REQUEST_ID);
+        if (this.responseStatus == 503) {
+            exchange.getResponseHeaders().add("Retry-After", "1");
+        }
+        exchange.sendResponseHeaders(this.responseStatus, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static final class StreamOnlyMultipartFile extends MockMultipartFile {
+
+        private final AtomicBoolean streamClosed = new AtomicBoolean();
+
+        private StreamOnlyMultipartFile(String filename) {
+            super("images", filename, "image/jpeg", new byte[0]);
+        }
+
+        @Override
+        public long getSize() {
+            return IMAGE_SIZE;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("Image content must be streamed");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long remaining = IMAGE_SIZE;
+
+                @Override
+                public int read() {
+                    if (this.remaining == 0) {
+                        return -1;
+                    }
+                    this.remaining--;
+                    return 'x';
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    if (this.remaining == 0) {
+                        return -1;
+                    }
+                    int count = (int) Math.min(length, this.remaining);
+                    Arrays.fill(buffer, offset, offset + count, (byte) 'x');
+                    this.remaining -= count;
+                    return count;
+                }
+
+                @Override
+                public void close() {
+                    StreamOnlyMultipartFile.this.streamClosed.set(true);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hotelmanager.service.impl;
+
+import com.hotelmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDenyListTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDenyList userDenyList;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(this.userDenyList, "enabled", true);
+    }
+
+    @Test
+    void deny_shouldSurviveRefresh_whenUserIsDeniedWhileRefreshReadsDisabledUsers() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        when(this.userRepository.findDisabledUserIds()).thenAnswer(invocation -> {
+            reading.countDown();
+            Thread.sleep(200);
+            return List.of();
+        });
+
+        CompletableFuture<Void> refresh = CompletableFuture.runAsync(this.userDenyList::refresh);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        this.userDenyList.deny(USER_ID);
+        refresh.get(5, TimeUnit.SECONDS);
+
+        assertThat(this.userDenyList.isDenied(USER_ID)).isTrue();
+    }
+
+    @Test
+    void deny_shouldDenyBeforeCommitAndSurviveRefreshThatMissedTheCommit() {
+        when(this.userRepository.findDisabledUserIds()).thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.userDenyList.deny(USER_ID);
+            assertThat(this.userDenyList.isDenied(USER_ID)).isTrue();
+
+            this.userDenyList.refresh();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(this.userDenyList.isDenied(USER_ID)).isTrue();
+    }
+
+    @Test
+    void allow_shouldKeepUserDeniedUntilCommit() {
+        this.userDenyList.deny(USER_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.userDenyList.allow(USER_ID);
+            assertThat(this.userDenyList.isDenied(USER_ID)).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(this.userDenyList.isDenied(USER_ID)).isFalse();
+    }
+}
@@ -0,0 +1,207 @@
+package com.hotelmanager.web;
+
+import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.exception.exceptions.FilesServiceUnavailableException;
+import com.hotelmanager.model.dto.request.RoomCreationDto;
+import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.service.RoomService;
+import com.hotelmanager.service.impl.ResilientFilesService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Sql(scripts = "/db/room_types.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@WithMockUser(username = "testUser", roles = {"MANAGER"})
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "resilience4j.circuitbreaker.instances.filesService.sliding-window-size=4",
+        "resilience4j.circuitbreaker.instances.filesService.minimum-number-of-calls=4",
+        "resilience4j.circuitbreaker.instances.filesService.failure-rate-threshold=50",
+        "resilience4j.circuitbreaker.instances.filesService.wait-duration-in-open-state=1m",
+        "resilience4j.circuitbreaker.instances.filesService.ignore-exceptions=feign.FeignException$FeignClientException,io.github.resilience4j.bulkhead.BulkheadFullException",
+        "resilience4j.bulkhead.instances.filesService.max-concurrent-calls=2",
+        "resilience4j.bulkhead.instances.filesService.max-wait-duration=0",
+        "files.service.photos-fetch-timeout=10s",
+        "management.endpoints.web.exposure.include=circuitbreakers"
+})
+class FilesServiceResilienceTest extends IntegrationBaseTest {
+
+    private static final HttpServer FILES_SERVICE_STUB = startStub();
+    private static final AtomicInteger STUB_REQUESTS = new AtomicInteger();
+
+    private static volatile int stubStatus;
+    private static volatile CountDownLatch stubRelease;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ResilientFilesService resilientFilesService;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @DynamicPropertySource
+    static void filesServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("files.service.url", () -> "http://localhost:" + FILES_SERVICE_STUB.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        FILES_SERVICE_STUB.stop(0);
+    }
+
+    @BeforeEach
+    void resetStub() {
+        STUB_REQUESTS.set(0);
+        stubStatus = 500;
+        stubRelease = new CountDownLatch(0);
+    }
+
+    @Test
+    @DisplayName("Should stop calling the files service once the circuit breaker opens")
+    void testCircuitBreakerOpensOnServerErrors() throws Exception {
+        UUID roomId = createRoom();
+
+        for (int i = 0; i < 5; i++) {
+            this.mockMvc.perform(get("/rooms/{id}", roomId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.photos").isEmpty())
+                    .andExpect(jsonPath("$.roomTypePhotos").isEmpty());
+        }
+
+        assertThat(STUB_REQUESTS.get()).isEqualTo(4);
+        assertThat(filesServiceCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> this.resilientFilesService.getPhotosByRoom(roomId.toString()))
+                .isInstanceOf(FilesServiceUnavailableException.class);
+
+        this.mockMvc.perform(get("/actuator/circuitbreakers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.circuitBreakers.filesService.state").value("OPEN"));
+    }
+
+    @Test
+    @DisplayName("Should keep the circuit breaker closed on client errors")
+    void testCircuitBreakerIgnoresClientErrors() throws Exception {
+        stubStatus = 404;
+        UUID roomId = createRoom();
+
+        for (int i = 0; i < 5; i++) {
+            this.mockMvc.perform(get("/rooms/{id}", roomId))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(STUB_REQUESTS.get()).isEqualTo(10);
+        assertThat(filesServiceCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should reject calls above the bulkhead limit without reaching the files service")
+    void testBulkheadRejectsExcessConcurrentCalls() throws Exception {
+        stubStatus = 200;
+        stubRelease = new CountDownLatch(1);
+
+        List<CompletableFuture<Void>> inFlight = List.of(
+                CompletableFuture.runAsync(() -> this.resilientFilesService.getPhotosByRoom("first")),
+                CompletableFuture.runAsync(() -> this.resilientFilesService.getPhotosByRoom("second")));
+        awaitStubRequests(2);
+
+        try {
+            assertThatThrownBy(() -> this.resilientFilesService.getPhotosByRoom("third"))
+                    .isInstanceOf(FilesServiceUnavailableException.class)
+                    .hasCauseInstanceOf(BulkheadFullException.class);
+        } finally {
+            stubRelease.countDown();
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        assertThat(STUB_REQUESTS.get()).isEqualTo(2);
+    }
+
+    private CircuitBreaker filesServiceCircuitBreaker() {
+        return this.circuitBreakerRegistry.circuitBreaker(ResilientFilesService.FILES_SERVICE);
+    }
+
+    private UUID createRoom() {
+        RoomCreationDto room = RoomCreationDto.builder()
+                .roomNumber("101")
+                .roomType("STANDARD_DOUBLE_ROOM")
+                .bedTypes(List.of(BedType.DOUBLE))
+                .roomStatus(RoomStatus.AVAILABLE)
+                .build();
+
+        return this.roomService.createRoom(room).getUuid();
+    }
+
+    private static void awaitStubRequests(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (STUB_REQUESTS.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(STUB_REQUESTS.get()).isEqualTo(expected);
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", FilesServiceResilienceTest::handle);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        STUB_REQUESTS.incrementAndGet();
+        try {
+            stubRelease.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = stubStatus == 200 ? "[]".getBytes() : new byte[0];
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(stubStatus, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,204 @@
+package com.hotelmanager.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.model.dto.RoomTypeAvailability;
+import com.hotelmanager.model.dto.request.ReservationCreationDto;
+import com.hotelmanager.model.dto.request.ReservationRoomDto;
+import com.hotelmanager.model.dto.request.RoomCreationDto;
+import com.hotelmanager.model.entity.RoomTypeInventory;
+import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.ReservationPaymentType;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.ReservationRepository;
+import com.hotelmanager.repository.RoomTypeInventoryRepository;
+import com.hotelmanager.service.impl.RoomTypeAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Sql(scripts = "/db/room_types.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationConcurrencyTest extends IntegrationBaseTest {
+
+    private static final int ROOMS = 5;
+    private static final int REQUESTS = 2000;
+    private static final int THREADS = 32;
+    private static final int NIGHTS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomTypeInventoryRepository inventoryRepository;
+
+    @Autowired
+    private RoomTypeAvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setup() throws Exception {
+        for (int i = 1; i <= ROOMS; i++) {
+            createRoom("10" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should never oversell a room type when reservations are created concurrently")
+    void testConcurrentReservationsDoNotOversell() throws Exception {
+        String content = this.objectMapper.writeValueAsString(buildReservationCreationDto());
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int responseStatus = this.mockMvc.perform(post("/reservations")
+                                    .with(user("testUser").roles("MANAGER"))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(content))
+                            .andReturn()
+                            .getResponse()
+                            .getStatus();
+                    if (responseStatus == 201) {
+                        created.incrementAndGet();
+                    } else if (responseStatus == 400) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(ROOMS, created.get());
+        assertEquals(REQUESTS - ROOMS, rejected.get());
+        assertEquals(ROOMS, this.reservationRepository.count());
+
+        List<RoomTypeInventory> nights = this.inventoryRepository.findAll();
+        assertEquals(NIGHTS, nights.size());
+        nights.forEach(night -> assertEquals(ROOMS, night.getBooked()));
+    }
+
+    @Test
+    @DisplayName("Should keep the availability index in line with the ledger when it is rebuilt during reservations")
+    void testAvailabilityIndexRebuiltDuringConcurrentReservations() throws Exception {
+        String content = this.objectMapper.writeValueAsString(buildReservationCreationDto());
+        AtomicInteger created = new AtomicInteger();
+        AtomicBoolean booking = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Future<?> rebuilds = executor.submit(() -> {
+                start.await();
+                while (booking.get()) {
+                    this.availabilityIndex.rebuild();
+                }
+                return null;
+            });
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < ROOMS * 20; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int responseStatus = this.mockMvc.perform(post("/reservations")
+                                    .with(user("testUser").roles("MANAGER"))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(content))
+                            .andReturn()
+                            .getResponse()
+                            .getStatus();
+                    if (responseStatus == 201) {
+                        created.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            booking.set(false);
+            rebuilds.get(1, TimeUnit.MINUTES);
+        } finally {
+            booking.set(false);
+            executor.shutdownNow();
+        }
+
+        assertEquals(ROOMS, created.get());
+        for (int night = 0; night < NIGHTS; night++) {
+            LocalDate stayDate = LocalDate.now().plusDays(night);
+            RoomTypeAvailability availability = this.availabilityIndex.availabilities(stayDate, stayDate.plusDays(1))
+                    .orElseThrow()
+                    .get("STANDARD_DOUBLE_ROOM");
+            assertEquals(ROOMS, availability.totalRooms());
+            assertEquals(ROOMS, availability.bookedRooms());
+        }
+    }
+
+    private ReservationCreationDto buildReservationCreationDto() {
+        ReservationRoomDto reservationRoomDto = ReservationRoomDto.builder()
+                .roomsCount(1)
+                .roomTypeName("STANDARD_DOUBLE_ROOM")
+                .build();
+
+        return ReservationCreationDto.builder()
+                .firstName("John")
+                .lastName("Down")
+                .email("valid@email.com")
+                .phone("+1234567890")
+                .guestsCount(2)
+                .reservationPaymentType(ReservationPaymentType.FULL_PREPAY)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(NIGHTS))
+                .rooms(List.of(reservationRoomDto))
+                .build();
+    }
+
+    private void createRoom(String roomNumber) throws Exception {
+        RoomCreationDto room = RoomCreationDto.builder()
+                .roomNumber(roomNumber)
+                .roomType("STANDARD_DOUBLE_ROOM")
+                .bedTypes(List.of(BedType.DOUBLE))
+                .roomStatus(RoomStatus.AVAILABLE)
+                .build();
+
+        this.mockMvc.perform(post("/rooms")
+                        .with(user("testUser").roles("MANAGER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(room)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -5,30 +5,49 @@ import com.hotelmanager.IntegrationBaseTest;
 import com.hotelmanager.model.dto.request.ReservationCreationDto;
 import com.hotelmanager.model.dto.request.ReservationRoomDto;
 import com.hotelmanager.model.dto.request.RoomCreationDto;
+import com.hotelmanager.model.entity.Reservation;
+import com.hotelmanager.model.entity.ReservationPaymentTask;
 import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.PaymentReason;
+import com.hotelmanager.model.enums.PaymentStatus;
 import com.hotelmanager.model.enums.ReservationPaymentType;
 import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.PaymentRepository;
+import com.hotelmanager.repository.ReservationPaymentTaskRepository;
+import com.hotelmanager.repository.ReservationRepository;
+import com.hotelmanager.service.impl.ReservationPaymentOutboxWorker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+import static com.hotelmanager.exception.ExceptionMessages.INVALID_SCROLL_SIZE;
 import static com.hotelmanager.exception.ExceptionMessages.NOT_ENOUGH_ROOMS_AVAILABLE;
+import static com.hotelmanager.exception.ExceptionMessages.ROOM_TYPE_NOT_FOUND;
 import static com.hotelmanager.testutil.ErrorResultMatchers.exception;
 import static com.hotelmanager.testutil.ErrorResultMatchers.validationError;
+import static com.hotelmanager.validation.PageableValidator.MAX_SCROLL_SIZE;
 import static com.hotelmanager.validation.ValidationMessages.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -56,6 +75,18 @@ class ReservationControllerTest extends IntegrationBaseTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationPaymentTaskRepository reservationPaymentTaskRepository;
+
+    @Autowired
+    private ReservationPaymentOutboxWorker reservationPaymentOutboxWorker;
+
     @BeforeEach
     void setup() throws Exception {
         createRoom();
@@ -73,6 +104,106 @@ class ReservationControllerTest extends IntegrationBaseTest {
                 .andExpect(header().exists("Location"));
     }
 
+    @Test
+    @DisplayName("Should assign time-ordered UUIDv7 ids to new reservations")
+    void testCreateReservationWithTimeOrderedId() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            ReservationCreationDto creationDto = buildReservationCreationDto();
+            creationDto.setStartDate(LocalDate.now().plusDays(10L * i));
+            creationDto.setEndDate(LocalDate.now().plusDays(10L * i + 3));
+
+            this.mockMvc.perform(post("/reservations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(creationDto)))
+                    .andExpect(status().isCreated());
+        }
+
+        List<UUID> ids = this.reservationRepository.findAll(Sort.by("createdDateTime")).stream()
+                .map(Reservation::getUuid)
+                .toList();
+
+        assertThat(ids).hasSize(2).allSatisfy(id -> assertThat(id.version()).isEqualTo(7));
+        assertThat(ids.getFirst().getMostSignificantBits()).isLessThan(ids.getLast().getMostSignificantBits());
+    }
+
+    @Test
+    @DisplayName("Should create the reservation payment from the outbox after the reservation is committed")
+    void testCreateReservationPaymentThroughOutbox() throws Exception {
+        ReservationCreationDto creationDto = buildReservationCreationDto();
+        creationDto.setReservationPaymentType(ReservationPaymentType.RESERVATION_DEPOSIT);
+
+        String location = this.mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+        UUID reservationId = UUID.fromString(location.substring(location.lastIndexOf('/') + 1));
+
+        assertThat(this.paymentRepository.count()).isZero();
+        assertThat(this.reservationPaymentTaskRepository.findAll())
+                .singleElement()
+                .satisfies(task -> assertThat(task.getReservationId()).isEqualTo(reservationId));
+
+        assertThat(this.reservationPaymentOutboxWorker.drain()).isEqualTo(1);
+
+        BigDecimal accommodationCoast = this.reservationRepository.findById(reservationId).orElseThrow().getAccommodationCoast();
+        assertThat(this.reservationPaymentTaskRepository.count()).isZero();
+        assertThat(this.paymentRepository.findAll())
+                .singleElement()
+                .satisfies(payment -> {
+                    assertThat(payment.getReservation().getUuid()).isEqualTo(reservationId);
+                    assertThat(payment.getReason()).isEqualTo(PaymentReason.DEPOSIT);
+                    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+                    assertThat(payment.getAmount()).isEqualByComparingTo(accommodationCoast.multiply(BigDecimal.valueOf(0.30)));
+                });
+    }
+
+    @Test
+    @DisplayName("Should create healthy reservation payments and retry a failing outbox task later")
+    void testReservationPaymentOutboxIsolatesFailingTask() throws Exception {
+        String location = this.mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(buildReservationCreationDto())))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+        UUID reservationId = UUID.fromString(location.substring(location.lastIndexOf('/') + 1));
+        UUID failingTaskId = this.reservationPaymentTaskRepository.save(ReservationPaymentTask.builder()
+                        .reservationId(UUID.randomUUID())
+                        .reservationPaymentType(ReservationPaymentType.FULL_PREPAY)
+                        .accommodationCoast(BigDecimal.valueOf(100))
+                        .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                        .build())
+                .getUuid();
+
+        assertThat(this.reservationPaymentOutboxWorker.drain()).isEqualTo(1);
+
+        assertThat(this.paymentRepository.findAll())
+                .singleElement()
+                .satisfies(payment -> assertThat(payment.getReservation().getUuid()).isEqualTo(reservationId));
+        assertThat(this.reservationPaymentTaskRepository.findAll())
+                .singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getUuid()).isEqualTo(failingTaskId);
+                    assertThat(task.getAttempts()).isEqualTo(1);
+                    assertThat(task.getLastError()).isNotBlank();
+                    assertThat(task.getNextAttemptAt()).isAfter(LocalDateTime.now());
+                });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "101"})
+    @DisplayName("Should return 400 when scrolling reservations with a size outside 1..100")
+    void testScrollReservationsWithInvalidSize(String size) throws Exception {
+        this.mockMvc.perform(get("/reservations/scroll")
+                        .param("size", size))
+                .andExpect(status().isBadRequest())
+                .andExpectAll(exception("BAD_REQUEST", INVALID_SCROLL_SIZE.formatted(MAX_SCROLL_SIZE)));
+    }
+
     @Test
     @DisplayName("Should return 400 when first name provided is null")
     void testCreateReservationWithNullFirstName() throws Exception {
@@ -325,6 +456,41 @@ class ReservationControllerTest extends IntegrationBaseTest {
                 .andExpectAll(exception("BAD_REQUEST", NOT_ENOUGH_ROOMS_AVAILABLE.formatted("STANDARD_DOUBLE_ROOM")));
     }
 
+    @Test
+    @DisplayName("Should return 400 when the only room of the type is already booked")
+    void testCreateReservationWhenRoomTypeIsFullyBooked() throws Exception {
+        ReservationCreationDto creationDto = buildReservationCreationDto();
+
+        this.mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isCreated());
+
+        this.mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isBadRequest())
+                .andExpectAll(exception("BAD_REQUEST", NOT_ENOUGH_ROOMS_AVAILABLE.formatted("STANDARD_DOUBLE_ROOM")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when one of the requested room types does not exist")
+    void testCreateReservationWithUnknownRoomType() throws Exception {
+        ReservationCreationDto creationDto = buildReservationCreationDto();
+        List<ReservationRoomDto> rooms = new ArrayList<>(creationDto.getRooms());
+        rooms.add(ReservationRoomDto.builder()
+                .roomsCount(1)
+                .roomTypeName("SINGLE")
+                .build());
+        creationDto.setRooms(rooms);
+
+        this.mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isBadRequest())
+                .andExpectAll(exception("BAD_REQUEST", ROOM_TYPE_NOT_FOUND));
+    }
+
     private ReservationCreationDto buildReservationCreationDto() {
         ReservationRoomDto reservationRoomDto = ReservationRoomDto.builder()
                 .roomsCount(1)
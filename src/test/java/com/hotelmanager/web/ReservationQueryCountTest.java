@@ -0,0 +1,306 @@
+package com.hotelmanager.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.model.dto.request.ReservationCreationDto;
+import com.hotelmanager.model.dto.request.ReservationRoomDto;
+import com.hotelmanager.model.entity.Payment;
+import com.hotelmanager.model.entity.Reservation;
+import com.hotelmanager.model.entity.ReservationRoomType;
+import com.hotelmanager.model.entity.Room;
+import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.entity.User;
+import com.hotelmanager.model.enums.*;
+import com.hotelmanager.repository.PaymentRepository;
+import com.hotelmanager.repository.ReservationRepository;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.repository.RoomTypeRepository;
+import com.hotelmanager.repository.UserRepository;
+import com.hotelmanager.service.ReservationPaymentOutboxService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Sql(scripts = "/db/room_types.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@WithMockUser(username = "testUser", roles = {"MANAGER"})
+class ReservationQueryCountTest extends IntegrationBaseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ReservationPaymentOutboxService reservationPaymentOutboxService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should load reservation details with one query for the reservation and one for its payments")
+    void testGetReservationByIdQueryCount() throws Exception {
+        UUID reservationId = createReservations(1).getFirst();
+
+        this.statistics.clear();
+        this.mockMvc.perform(get("/reservations/{id}", reservationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomTypes", hasSize(2)))
+                .andExpect(jsonPath("$.payments", hasSize(3)))
+                .andExpect(jsonPath("$.pendingAmount").value(200));
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should load a reservations page with a constant number of queries")
+    void testGetAllReservationsQueryCount() throws Exception {
+        createReservations(25);
+
+        this.statistics.clear();
+        this.mockMvc.perform(get("/reservations").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records", hasSize(20)));
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should filter reservations by date range in a single query when the page is not full")
+    void testGetAllReservationsBetweenDatesQueryCount() throws Exception {
+        createReservations(10);
+
+        this.statistics.clear();
+        this.mockMvc.perform(get("/reservations")
+                        .param("fromDate", LocalDate.now().plusDays(2).toString())
+                        .param("toDate", LocalDate.now().plusDays(6).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records", hasSize(2)))
+                .andExpect(jsonPath("$.records[0].startDate").value(LocalDate.now().plusDays(2).toString()))
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should scroll reservations with a single seek query and no count")
+    void testScrollReservationsQueryCount() throws Exception {
+        createReservations(25);
+
+        this.statistics.clear();
+        String firstPage = this.mockMvc.perform(get("/reservations/scroll").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records", hasSize(20)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(nullValue()))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        this.statistics.clear();
+        this.mockMvc.perform(get("/reservations/scroll")
+                        .param("size", "20")
+                        .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records", hasSize(5)))
+                .andExpect(jsonPath("$.records[0].startDate").value(LocalDate.now().plusDays(20).toString()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count the scroll total once and serve it from cache afterwards")
+    void testScrollReservationsCachedTotal() throws Exception {
+        createReservations(5);
+
+        this.statistics.clear();
+        this.mockMvc.perform(get("/reservations/scroll").param("size", "2").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(5));
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        this.statistics.clear();
+        this.mockMvc.perform(get("/reservations/scroll").param("size", "2").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(5));
+
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should insert a booking with one batched statement per table")
+    void testCreateReservationStatementCount() throws Exception {
+        List<String> roomTypeNames = List.of("STANDARD_DOUBLE_ROOM", "DELUXE_DOUBLE_ROOM", "DELUXE_DOUBLE_APARTMENT");
+        createRooms(roomTypeNames);
+        createReservation(roomTypeNames, LocalDate.now().plusDays(1));
+
+        this.statistics.clear();
+        createReservation(roomTypeNames, LocalDate.now().plusDays(1));
+
+        assertThat(this.statistics.getEntityInsertCount()).isEqualTo(5);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should create pending reservation payments with a single batched insert")
+    void testProcessPaymentOutboxStatementCount() throws Exception {
+        List<String> roomTypeNames = List.of("STANDARD_DOUBLE_ROOM");
+        createRooms(roomTypeNames);
+        for (int i = 0; i < 5; i++) {
+            createReservation(roomTypeNames, LocalDate.now().plusDays(10L * i));
+        }
+
+        this.statistics.clear();
+        assertThat(this.reservationPaymentOutboxService.processPending()).isEqualTo(5);
+
+        assertThat(this.statistics.getEntityInsertCount()).isEqualTo(5);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(this.paymentRepository.count()).isEqualTo(5);
+    }
+
+    private void createRooms(List<String> roomTypeNames) {
+        for (int i = 0; i < roomTypeNames.size(); i++) {
+            RoomType roomType = this.roomTypeRepository.getByName(roomTypeNames.get(i)).orElseThrow();
+            for (int j = 0; j < 2; j++) {
+                this.roomRepository.save(Room.builder()
+                        .roomNumber("%d0%d".formatted(i + 1, j + 1))
+                        .roomType(roomType)
+                        .bedTypes(List.of(BedType.DOUBLE))
+                        .roomStatus(RoomStatus.AVAILABLE)
+                        .build());
+            }
+        }
+    }
+
+    private void createReservation(List<String> roomTypeNames, LocalDate startDate) throws Exception {
+        ReservationCreationDto creationDto = ReservationCreationDto.builder()
+                .firstName("John")
+                .lastName("Down")
+                .email("valid@email.com")
+                .phone("+1234567890")
+                .guestsCount(2)
+                .reservationPaymentType(ReservationPaymentType.FULL_PREPAY)
+                .startDate(startDate)
+                .endDate(startDate.plusDays(3))
+                .rooms(roomTypeNames.stream()
+                        .map(roomTypeName -> ReservationRoomDto.builder()
+                                .roomsCount(1)
+                                .roomTypeName(roomTypeName)
+                                .build())
+                        .toList())
+                .build();
+
+        this.mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(creationDto)))
+                .andExpect(status().isCreated());
+    }
+
+    private List<UUID> createReservations(int count) {
+        return this.transactionTemplate.execute(tx -> {
+            User user = this.userRepository.findByUsername("testUser").orElseThrow();
+            RoomType standardRoom = this.roomTypeRepository.getByName("STANDARD_DOUBLE_ROOM").orElseThrow();
+            RoomType deluxeRoom = this.roomTypeRepository.getByName("DELUXE_DOUBLE_APARTMENT").orElseThrow();
+
+            return IntStream.range(0, count)
+                    .mapToObj(i -> {
+                        Reservation reservation = Reservation.builder()
+                                .firstName("John")
+                                .lastName("Down")
+                                .email("valid@email.com")
+                                .phone("+1234567890")
+                                .guestsCount(2)
+                                .reservationStatus(ReservationStatus.RESERVATION_REQUEST)
+                                .accommodationCoast(BigDecimal.valueOf(300))
+                                .reservationPaymentType(ReservationPaymentType.RESERVATION_DEPOSIT)
+                                .startDate(LocalDate.now().plusDays(i))
+                                .endDate(LocalDate.now().plusDays(i + 3))
+                                .createdBy(user)
+                                .updatedBy(user)
+                                .build();
+                        reservation.setRoomTypes(Set.of(
+                                roomType(reservation, standardRoom),
+                                roomType(reservation, deluxeRoom)));
+                        reservation.setPayments(new ArrayList<>(List.of(
+                                payment(reservation, PaymentStatus.ACCEPTED),
+                                payment(reservation, PaymentStatus.PENDING),
+                                payment(reservation, PaymentStatus.PENDING))));
+
+                        return this.reservationRepository.save(reservation).getUuid();
+                    })
+                    .toList();
+        });
+    }
+
+    private static ReservationRoomType roomType(Reservation reservation, RoomType roomType) {
+        return ReservationRoomType.builder()
+                .reservation(reservation)
+                .roomType(roomType)
+                .roomsCount(1)
+                .build();
+    }
+
+    private static Payment payment(Reservation reservation, PaymentStatus status) {
+        return Payment.builder()
+                .amount(BigDecimal.valueOf(100))
+                .paymentType(PaymentType.CARD_PAYMENT)
+                .reason(PaymentReason.DEPOSIT)
+                .status(status)
+                .reservation(reservation)
+                .build();
+    }
+}
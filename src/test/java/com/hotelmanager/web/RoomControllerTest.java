@@ -2,31 +2,51 @@ package com.hotelmanager.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.config.FeignConfiguration;
+import com.hotelmanager.config.FilesServiceAuthorization;
 import com.hotelmanager.model.dto.request.RoomCreationDto;
 import com.hotelmanager.model.dto.request.RoomUpdateDto;
 import com.hotelmanager.model.dto.response.RoomResponseDto;
 import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.FileCleanupStatus;
+import com.hotelmanager.model.enums.FileCleanupType;
 import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.FileCleanupTaskRepository;
+import com.hotelmanager.service.FileCleanupOutboxService;
+import com.hotelmanager.service.FilesService;
 import com.hotelmanager.service.RoomService;
+import com.hotelmanager.service.impl.FileCleanupOutboxWorker;
+import com.jayway.jsonpath.JsonPath;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
 
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static com.hotelmanager.exception.ExceptionMessages.*;
 import static com.hotelmanager.testutil.ErrorResultMatchers.exception;
 import static com.hotelmanager.testutil.ErrorResultMatchers.validationError;
+import static com.hotelmanager.validation.PageableValidator.MAX_SCROLL_SIZE;
 import static com.hotelmanager.validation.ValidationMessages.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -54,6 +74,18 @@ class RoomControllerTest extends IntegrationBaseTest {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private FileCleanupTaskRepository fileCleanupTaskRepository;
+
+    @Autowired
+    private FileCleanupOutboxWorker fileCleanupOutboxWorker;
+
+    @Autowired
+    private FileCleanupOutboxService fileCleanupOutboxService;
+
+    @Autowired
+    private FilesServiceAuthorization filesServiceAuthorization;
+
     @Test
     @DisplayName("Should return 200 when room is created")
     void testCreateRoomSuccessfully() throws Exception {
@@ -602,6 +634,121 @@ class RoomControllerTest extends IntegrationBaseTest {
         this.mockMvc.perform(delete("/rooms/{id}", room.getUuid())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
+
+        assertThat(this.fileCleanupTaskRepository.findAll())
+                .singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getCleanupType()).isEqualTo(FileCleanupType.ROOM_PHOTOS);
+                    assertThat(task.getResourceId()).isEqualTo(room.getUuid());
+                    assertThat(task.getStatus()).isEqualTo(FileCleanupStatus.PENDING);
+                });
+    }
+
+    @Test
+    @DisplayName("Should reschedule room photos cleanup with backoff when files service is unavailable")
+    void testDeleteRoomPhotosCleanupRetry() throws Exception {
+        RoomResponseDto room = this.roomService.createRoom(buildValidRoomDto());
+        this.mockMvc.perform(delete("/rooms/{id}", room.getUuid())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        assertThat(this.fileCleanupOutboxWorker.drain()).isEqualTo(1);
+        assertThat(this.fileCleanupOutboxWorker.drain()).isZero();
+
+        assertThat(this.fileCleanupTaskRepository.findAll())
+                .singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getStatus()).isEqualTo(FileCleanupStatus.PENDING);
+                    assertThat(task.getAttempts()).isEqualTo(1);
+                    assertThat(task.getLastError()).isNotBlank();
+                    assertThat(task.getNextAttemptAt()).isAfter(LocalDateTime.now());
+                });
+    }
+
+    @Test
+    @DisplayName("Should keep room photos cleanup pending when files service rejects the credential")
+    void testDeleteRoomPhotosCleanupRetryOnUnauthorized() throws Exception {
+        RoomResponseDto room = this.roomService.createRoom(buildValidRoomDto());
+        this.mockMvc.perform(delete("/rooms/{id}", room.getUuid())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        HttpServer filesServiceStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        filesServiceStub.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+        });
+        filesServiceStub.start();
+
+        try {
+            FilesService unauthorizedFilesService = Feign.builder()
+                    .contract(new SpringMvcContract())
+                    .requestInterceptor(new FeignConfiguration().authorizationInterceptor(this.filesServiceAuthorization))
+                    .target(FilesService.class, "http://localhost:" + filesServiceStub.getAddress().getPort());
+            FileCleanupOutboxWorker worker = new FileCleanupOutboxWorker(
+                    this.fileCleanupOutboxService, unauthorizedFilesService, this.filesServiceAuthorization);
+
+            assertThat(worker.drain()).isEqualTo(1);
+        } finally {
+            filesServiceStub.stop(0);
+        }
+
+        assertThat(this.fileCleanupTaskRepository.findAll())
+                .singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getStatus()).isEqualTo(FileCleanupStatus.PENDING);
+                    assertThat(task.getAttempts()).isEqualTo(1);
+                    assertThat(task.getLastError()).contains("401");
+                    assertThat(task.getNextAttemptAt()).isAfter(LocalDateTime.now());
+                });
+    }
+
+    @Test
+    @DisplayName("Should scroll rooms by room number with an opaque cursor")
+    void testScrollRoomsWithCursor() throws Exception {
+        createMultipleRooms(5);
+
+        String firstPage = this.mockMvc.perform(get("/rooms/scroll")
+                        .param(ROOM_TYPE_FIELD, STANDARD_DOUBLE_ROOM_UUID)
+                        .param("size", "3")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records[*].roomNumber").value(contains("101", "102", "103")))
+                .andExpect(jsonPath("$.size").value(3))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andReturn().getResponse().getContentAsString();
+
+        this.mockMvc.perform(get("/rooms/scroll")
+                        .param(ROOM_TYPE_FIELD, STANDARD_DOUBLE_ROOM_UUID)
+                        .param("size", "3")
+                        .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records[*].roomNumber").value(contains("104", "105")))
+                .andExpect(jsonPath("$.records[0].roomType").value("STANDARD_DOUBLE_ROOM"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()))
+                .andExpect(jsonPath("$.totalElements").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when scrolling rooms with an invalid cursor")
+    void testScrollRoomsWithInvalidCursor() throws Exception {
+        this.mockMvc.perform(get("/rooms/scroll")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpectAll(exception("BAD_REQUEST", INVALID_CURSOR));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "101"})
+    @DisplayName("Should return 400 when scrolling rooms with a size outside 1..100")
+    void testScrollRoomsWithInvalidSize(String size) throws Exception {
+        this.mockMvc.perform(get("/rooms/scroll")
+                        .param("size", size))
+                .andExpect(status().isBadRequest())
+                .andExpectAll(exception("BAD_REQUEST", INVALID_SCROLL_SIZE.formatted(MAX_SCROLL_SIZE)));
     }
 
     private static ResultMatcher[] expectGetAllRooms(String prefix, RoomResponseDto room) {
@@ -1,23 +1,32 @@
 package com.hotelmanager.web;
 
 import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.model.enums.ImageUploadStatus;
 import com.hotelmanager.repository.RoomTypeRepository;
+import com.hotelmanager.service.impl.RoomTypeCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
 
 import static com.hotelmanager.exception.ExceptionMessages.ROOM_TYPE_EXISTS;
+import static com.hotelmanager.service.impl.RoomTypeCache.ROOM_TYPES_CACHE;
 import static com.hotelmanager.testutil.ErrorResultMatchers.exception;
 import static com.hotelmanager.testutil.ErrorResultMatchers.validationError;
 import static com.hotelmanager.validation.ValidationMessages.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,6 +48,15 @@ class RoomTypeControllerTest extends IntegrationBaseTest {
     @Autowired
     private RoomTypeRepository roomTypeRepository;
 
+    @Autowired
+    private RoomTypeCache roomTypeCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Test
     @DisplayName("Should return 200 when room type is created")
     void testCreateRoomTypeSuccessfully() throws Exception {
@@ -54,6 +72,26 @@ class RoomTypeControllerTest extends IntegrationBaseTest {
                 .andExpect(header().exists("Location"));
     }
 
+    @Test
+    @DisplayName("Should upload room type images after the room type is committed")
+    void testCreateRoomTypeUploadsImagesAsynchronously() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.multipart("/room-type")
+                        .file(mockImage())
+                        .param("name", "APARTMENT_DELUXE_DOUBLE")
+                        .param("basePricePerNight", "100")
+                        .param("capacity", "3")
+                        .param("description", "Short description"))
+                .andExpect(status().isCreated());
+
+        assertThat(awaitImageStatus("APARTMENT_DELUXE_DOUBLE", ImageUploadStatus.FAILED))
+                .isEqualTo(ImageUploadStatus.FAILED);
+
+        this.mockMvc.perform(get("/room-type"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'APARTMENT_DELUXE_DOUBLE')].imageStatus")
+                        .value(ImageUploadStatus.FAILED.name()));
+    }
+
     @Test
     @DisplayName("Should return 400 when room type name already exists")
     void testCreateRoomTypeWithExistingName() throws Exception {
@@ -228,6 +266,53 @@ class RoomTypeControllerTest extends IntegrationBaseTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("Should list a room type created after the room types were cached")
+    void testCreateRoomTypeRefreshesCachedRoomTypes() throws Exception {
+        this.mockMvc.perform(get("/room-type")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(6)));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.multipart("/room-type")
+                        .param("name", "APARTMENT_DELUXE_DOUBLE")
+                        .param("basePricePerNight", "100")
+                        .param("capacity", "3")
+                        .param("description", "Short description"))
+                .andExpect(status().isCreated());
+
+        this.mockMvc.perform(get("/room-type")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(7)));
+    }
+
+    @Test
+    @DisplayName("Should keep cached room types until the evicting transaction commits")
+    void testRoomTypesEvictionWaitsForCommit() {
+        this.roomTypeCache.idsByName();
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.roomTypeCache.evict();
+            assertThat(roomTypesCache().get("all")).isNotNull();
+        });
+
+        assertThat(roomTypesCache().get("all")).isNull();
+    }
+
+    private ImageUploadStatus awaitImageStatus(String name, ImageUploadStatus expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ImageUploadStatus status = this.roomTypeRepository.getByName(name).orElseThrow().getImageStatus();
+        while (status != expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            status = this.roomTypeRepository.getByName(name).orElseThrow().getImageStatus();
+        }
+        return status;
+    }
+
+    private Cache roomTypesCache() {
+        return this.cacheManager.getCache(ROOM_TYPES_CACHE);
+    }
+
     private MockMultipartFile mockImage() {
         return new MockMultipartFile(
                 "images",
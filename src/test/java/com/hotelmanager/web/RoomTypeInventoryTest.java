@@ -0,0 +1,184 @@
+package com.hotelmanager.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.model.dto.request.ReservationCreationDto;
+import com.hotelmanager.model.dto.request.ReservationRoomDto;
+import com.hotelmanager.model.dto.request.RoomCreationDto;
+import com.hotelmanager.model.entity.Room;
+import com.hotelmanager.model.entity.RoomTypeInventory;
+import com.hotelmanager.model.entity.RoomTypeInventoryId;
+import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.ReservationPaymentType;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.repository.RoomTypeInventoryRepository;
+import com.hotelmanager.repository.RoomTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Sql(scripts = "/db/room_types.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@WithMockUser(username = "testUser", roles = {"MANAGER"})
+class RoomTypeInventoryTest extends IntegrationBaseTest {
+
+    private static final String ROOM_TYPE = "STANDARD_DOUBLE_ROOM";
+    private static final String INVENTORY_MIGRATION = "db/migration/V8__create_room_type_inventory_table.sql";
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+
+    @Autowired
+    private RoomTypeInventoryRepository inventoryRepository;
+
+    private UUID roomTypeId;
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.roomTypeId = this.roomTypeRepository.getByName(ROOM_TYPE).orElseThrow().getUuid();
+        for (String roomNumber : List.of("101", "102", "103")) {
+            createRoom(roomNumber);
+        }
+    }
+
+    @Test
+    @DisplayName("Should book every night of a reservation by its rooms count")
+    void testReservationBooksRoomsCountForEveryNight() throws Exception {
+        createReservation(TODAY.plusDays(1), TODAY.plusDays(4), 2);
+        createReservation(TODAY.plusDays(2), TODAY.plusDays(5), 1);
+
+        assertEquals(Map.of(
+                TODAY.plusDays(1), 2,
+                TODAY.plusDays(2), 3,
+                TODAY.plusDays(3), 3,
+                TODAY.plusDays(4), 1), bookedByNight());
+        this.inventoryRepository.findAll().forEach(night -> assertEquals(3, night.getTotal()));
+    }
+
+    @Test
+    @DisplayName("Should change the total rooms from today onward when a room is created or deleted")
+    void testRoomCreateAndDeleteAdjustTotalFromToday() throws Exception {
+        createReservation(TODAY, TODAY.plusDays(2), 1);
+        LocalDate yesterday = TODAY.minusDays(1);
+        this.inventoryRepository.save(new RoomTypeInventory(new RoomTypeInventoryId(this.roomTypeId, yesterday), 3, 0));
+
+        createRoom("104");
+
+        assertEquals(Map.of(yesterday, 3, TODAY, 4, TODAY.plusDays(1), 4), totalByNight());
+
+        deleteRoom("101");
+        deleteRoom("102");
+
+        assertEquals(Map.of(yesterday, 3, TODAY, 2, TODAY.plusDays(1), 2), totalByNight());
+    }
+
+    @Test
+    @DisplayName("Should backfill booked nights from the rooms count of existing reservations")
+    void testInventoryBackfillSumsRoomsCount() throws Exception {
+        createReservation(TODAY.plusDays(1), TODAY.plusDays(4), 2);
+        createReservation(TODAY.plusDays(2), TODAY.plusDays(5), 1);
+        Map<LocalDate, Integer> booked = bookedByNight();
+
+        this.inventoryRepository.deleteAllInBatch();
+        this.jdbcTemplate.update(backfillStatement());
+
+        assertEquals(booked, bookedByNight());
+        this.inventoryRepository.findAll().forEach(night -> assertEquals(3, night.getTotal()));
+    }
+
+    private Map<LocalDate, Integer> bookedByNight() {
+        return this.inventoryRepository.findAll().stream()
+                .collect(Collectors.toMap(night -> night.getId().getStayDate(), RoomTypeInventory::getBooked));
+    }
+
+    private Map<LocalDate, Integer> totalByNight() {
+        return this.inventoryRepository.findAll().stream()
+                .collect(Collectors.toMap(night -> night.getId().getStayDate(), RoomTypeInventory::getTotal));
+    }
+
+    private static String backfillStatement() throws IOException {
+        String migration = new ClassPathResource(INVENTORY_MIGRATION).getContentAsString(StandardCharsets.UTF_8);
+        String insert = migration.substring(migration.indexOf("INSERT INTO room_type_inventory"));
+        return insert.substring(0, insert.lastIndexOf(';'));
+    }
+
+    private void createReservation(LocalDate startDate, LocalDate endDate, int roomsCount) throws Exception {
+        ReservationCreationDto reservation = ReservationCreationDto.builder()
+                .firstName("John")
+                .lastName("Down")
+                .email("valid@email.com")
+                .phone("+1234567890")
+                .guestsCount(2)
+                .reservationPaymentType(ReservationPaymentType.FULL_PREPAY)
+                .startDate(startDate)
+                .endDate(endDate)
+                .rooms(List.of(ReservationRoomDto.builder()
+                        .roomsCount(roomsCount)
+                        .roomTypeName(ROOM_TYPE)
+                        .build()))
+                .build();
+
+        this.mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(reservation)))
+                .andExpect(status().isCreated());
+    }
+
+    private void createRoom(String roomNumber) throws Exception {
+        RoomCreationDto room = RoomCreationDto.builder()
+                .roomNumber(roomNumber)
+                .roomType(ROOM_TYPE)
+                .bedTypes(List.of(BedType.DOUBLE))
+                .roomStatus(RoomStatus.AVAILABLE)
+                .build();
+
+        this.mockMvc.perform(post("/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(room)))
+                .andExpect(status().isCreated());
+    }
+
+    private void deleteRoom(String roomNumber) throws Exception {
+        UUID roomId = this.roomRepository.findAll().stream()
+                .filter(room -> room.getRoomNumber().equals(roomNumber))
+                .map(Room::getUuid)
+                .findFirst()
+                .orElseThrow();
+
+        this.mockMvc.perform(delete("/rooms/" + roomId))
+                .andExpect(status().isOk());
+    }
+}
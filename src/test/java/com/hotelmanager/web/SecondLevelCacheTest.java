@@ -0,0 +1,171 @@
+package com.hotelmanager.web;
+
+import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.model.entity.Role;
+import com.hotelmanager.model.entity.Room;
+import com.hotelmanager.model.entity.RoomType;
+import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.ImageUploadStatus;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.RoleRepository;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.repository.RoomTypeRepository;
+import com.hotelmanager.service.RoomTypeService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Sql(scripts = "/db/room_types.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class SecondLevelCacheTest extends IntegrationBaseTest {
+
+    private static final String ROOM_TYPE_NAME = "STANDARD_DOUBLE_ROOM";
+    private static final String ROOM_TYPES_REGION = "room-types";
+
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomTypeService roomTypeService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Should load a room type from the second-level cache without querying the database")
+    void testRoomTypeServedFromSecondLevelCache() {
+        UUID roomTypeId = this.roomTypeRepository.getByName(ROOM_TYPE_NAME).orElseThrow().getUuid();
+
+        this.statistics.clear();
+        RoomType roomType = this.transactionTemplate.execute(tx -> this.roomTypeRepository.findById(roomTypeId).orElseThrow());
+
+        assertThat(roomType.getName()).isEqualTo(ROOM_TYPE_NAME);
+        assertThat(this.statistics.getPrepareStatementCount()).isZero();
+        assertThat(this.statistics.getDomainDataRegionStatistics(ROOM_TYPES_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should resolve a room's type from the second-level cache")
+    void testRoomRoomTypeServedFromSecondLevelCache() {
+        RoomType cachedRoomType = this.roomTypeRepository.getByName(ROOM_TYPE_NAME).orElseThrow();
+        UUID roomId = this.roomRepository.save(Room.builder()
+                .roomNumber("101")
+                .roomType(cachedRoomType)
+                .bedTypes(List.of(BedType.DOUBLE))
+                .roomStatus(RoomStatus.AVAILABLE)
+                .build()).getUuid();
+
+        this.statistics.clear();
+        String roomTypeName = this.transactionTemplate.execute(tx -> this.roomRepository.findById(roomId).orElseThrow()
+                .getRoomType()
+                .getName());
+
+        assertThat(roomTypeName).isEqualTo(ROOM_TYPE_NAME);
+        assertThat(this.statistics.getDomainDataRegionStatistics(ROOM_TYPES_REGION).getHitCount()).isEqualTo(1);
+        assertThat(this.statistics.getDomainDataRegionStatistics(ROOM_TYPES_REGION).getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should look up room types by name from the name index and the second-level cache")
+    void testRoomTypeByNameServedFromCaches() {
+        this.roomTypeService.getEntityByName(ROOM_TYPE_NAME);
+
+        this.statistics.clear();
+        RoomType roomType = this.roomTypeService.getEntityByName(ROOM_TYPE_NAME);
+
+        assertThat(roomType.getName()).isEqualTo(ROOM_TYPE_NAME);
+        assertThat(this.statistics.getPrepareStatementCount()).isZero();
+        assertThat(this.statistics.getDomainDataRegionStatistics(ROOM_TYPES_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refresh the cached room type after it is updated")
+    void testRoomTypeCacheUpdatedOnWrite() {
+        UUID roomTypeId = this.roomTypeRepository.getByName(ROOM_TYPE_NAME).orElseThrow().getUuid();
+
+        this.transactionTemplate.executeWithoutResult(tx -> this.roomTypeRepository.findById(roomTypeId).orElseThrow()
+                .setBasePricePerNight(BigDecimal.valueOf(150)));
+
+        this.statistics.clear();
+        RoomType roomType = this.transactionTemplate.execute(tx -> this.roomTypeRepository.findById(roomTypeId).orElseThrow());
+
+        assertThat(roomType.getBasePricePerNight()).isEqualByComparingTo("150");
+        assertThat(this.statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return the new image status after a bulk image status update")
+    void testRoomTypeImageStatusUpdateInvalidatesSecondLevelCache() {
+        UUID roomTypeId = this.roomTypeService.getEntityByName(ROOM_TYPE_NAME).getUuid();
+
+        this.roomTypeService.updateImageStatus(roomTypeId, ImageUploadStatus.UPLOADED);
+
+        assertThat(this.roomTypeService.getEntityByName(ROOM_TYPE_NAME).getImageStatus()).isEqualTo(ImageUploadStatus.UPLOADED);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated role lookups by name from the query cache")
+    void testFindRoleByNameServedFromQueryCache() {
+        this.transactionTemplate.execute(tx -> this.roleRepository.findByName("MANAGER").orElseThrow());
+
+        this.statistics.clear();
+        Role role = this.transactionTemplate.execute(tx -> this.roleRepository.findByName("MANAGER").orElseThrow());
+
+        assertThat(role.getName()).isEqualTo("MANAGER");
+        assertThat(this.statistics.getPrepareStatementCount()).isZero();
+        assertThat(this.statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should export second-level cache statistics as metrics")
+    void testSecondLevelCacheMetricsExported() {
+        UUID roleId = this.transactionTemplate.execute(tx -> this.roleRepository.findByName("MANAGER").orElseThrow().getUuid());
+        this.transactionTemplate.execute(tx -> this.roleRepository.findByName("MANAGER").orElseThrow());
+        this.transactionTemplate.execute(tx -> this.roleRepository.findById(roleId).orElseThrow());
+
+        FunctionCounter roleHits = this.meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "roles", "result", "hit")
+                .functionCounter();
+        FunctionCounter queryCacheHits = this.meterRegistry.find("hibernate.cache.query.requests")
+                .tag("result", "hit")
+                .functionCounter();
+
+        assertThat(roleHits).isNotNull();
+        assertThat(roleHits.count()).isPositive();
+        assertThat(queryCacheHits).isNotNull();
+        assertThat(queryCacheHits.count()).isPositive();
+    }
+}
@@ -0,0 +1,145 @@
+package com.hotelmanager.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.model.dto.request.AuthRequestDto;
+import com.hotelmanager.model.dto.request.RoomCreationDto;
+import com.hotelmanager.model.entity.User;
+import com.hotelmanager.model.enums.BedType;
+import com.hotelmanager.model.enums.RoomStatus;
+import com.hotelmanager.repository.RoleRepository;
+import com.hotelmanager.repository.RoomRepository;
+import com.hotelmanager.repository.UserRepository;
+import com.hotelmanager.service.impl.UserDenyList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Sql(scripts = "/db/room_types.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "security.jwt.stateless=true")
+class StatelessJwtAuthenticationTest extends IntegrationBaseTest {
+
+    private static final String USERNAME = "stateless";
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserDenyList userDenyList;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword(this.passwordEncoder.encode(PASSWORD));
+        user.setEmail("stateless@hotelmanager.com");
+        user.setFirstName("State");
+        user.setLastName("Less");
+        user.setEnabled(true);
+        user.setPosition("Receptionist");
+        user.setRoles(Set.of(
+                this.roleRepository.findByName("USER").orElseThrow(),
+                this.roleRepository.findByName("MANAGER").orElseThrow()));
+
+        this.userRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("Should authenticate from token claims when stateless mode is enabled")
+    void testStatelessAuthentication() throws Exception {
+        String token = login();
+
+        this.mockMvc.perform(get("/profile")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(USERNAME));
+    }
+
+    @Test
+    @DisplayName("Should reject token of a user disabled after the deny list refresh")
+    void testStatelessAuthenticationForDisabledUser() throws Exception {
+        String token = login();
+
+        User user = this.userRepository.findByUsername(USERNAME).orElseThrow();
+        user.setEnabled(false);
+        this.userRepository.save(user);
+        this.userDenyList.refresh();
+
+        this.mockMvc.perform(get("/profile")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should assign the token user as creator of created entities")
+    void testStatelessAuthenticationAssignsCreator() throws Exception {
+        String token = login();
+        RoomCreationDto room = RoomCreationDto.builder()
+                .roomNumber("101")
+                .roomType("STANDARD_DOUBLE_ROOM")
+                .bedTypes(List.of(BedType.DOUBLE))
+                .roomStatus(RoomStatus.AVAILABLE)
+                .build();
+
+        this.mockMvc.perform(post("/rooms")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(room)))
+                .andExpect(status().isCreated());
+
+        assertThat(this.roomRepository.findAll())
+                .singleElement()
+                .satisfies(createdRoom -> assertThat(createdRoom.getCreatedBy().getUsername()).isEqualTo(USERNAME));
+    }
+
+    private String login() throws Exception {
+        AuthRequestDto request = new AuthRequestDto();
+        request.setUsername(USERNAME);
+        request.setPassword(PASSWORD);
+
+        String response = this.mockMvc.perform(post("/auth/login")
+                        .contentType(APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return this.objectMapper.readTree(response).get("token").asText();
+    }
+}
@@ -6,10 +6,12 @@ import com.hotelmanager.model.dto.request.UserDto;
 import com.hotelmanager.repository.RoleRepository;
 import com.hotelmanager.repository.UserRepository;
 import com.hotelmanager.service.UserService;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -25,8 +27,11 @@ import java.util.UUID;
 import static com.hotelmanager.exception.ExceptionMessages.*;
 import static com.hotelmanager.testutil.ErrorResultMatchers.exception;
 import static com.hotelmanager.testutil.ErrorResultMatchers.validationError;
+import static com.hotelmanager.validation.PageableValidator.MAX_SCROLL_SIZE;
 import static com.hotelmanager.validation.ValidationMessages.*;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -393,6 +398,46 @@ class UserControllerTest extends IntegrationBaseTest {
                 .andExpect(jsonPath("$.totalPages").value(0));
     }
 
+    @Test
+    @DisplayName("Should scroll users by username with an opaque cursor")
+    void testScrollUsers() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            UserDto userDto = buildValidUserDto();
+            userDto.setUsername(USERNAME + i);
+            userDto.setEmail(i + EMAIL);
+            userDto.setFirstName(FIRST_NAME + i);
+            this.userService.createUser(userDto);
+        }
+
+        String firstPage = this.mockMvc.perform(get("/users/scroll")
+                        .param("size", "2")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records[*].firstName").value(contains("Test", FIRST_NAME + 0)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andReturn().getResponse().getContentAsString();
+
+        this.mockMvc.perform(get("/users/scroll")
+                        .param("size", "2")
+                        .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records[*].firstName").value(contains(FIRST_NAME + 1)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()))
+                .andExpect(jsonPath("$.totalElements").value(nullValue()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "101"})
+    @DisplayName("Should return 400 when scrolling users with a size outside 1..100")
+    void testScrollUsersWithInvalidSize(String size) throws Exception {
+        this.mockMvc.perform(get("/users/scroll")
+                        .param("size", size))
+                .andExpect(status().isBadRequest())
+                .andExpectAll(exception("BAD_REQUEST", INVALID_SCROLL_SIZE.formatted(MAX_SCROLL_SIZE)));
+    }
+
     @Test
     @DisplayName("Should return 200 when get user by id find a user")
     void testGetUserByIdSuccessfully() throws Exception {
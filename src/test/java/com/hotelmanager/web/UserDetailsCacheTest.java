@@ -0,0 +1,107 @@
+package com.hotelmanager.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelmanager.IntegrationBaseTest;
+import com.hotelmanager.model.dto.request.ProfilePasswordDto;
+import com.hotelmanager.repository.UserRepository;
+import com.hotelmanager.service.impl.HotelUserDetailsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.hotelmanager.service.impl.HotelUserDetailsService.USER_DETAILS_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserDetailsCacheTest extends IntegrationBaseTest {
+
+    private static final String USERNAME = "testUser";
+    private static final String OLD_PASSWORD = "testUser123";
+    private static final String NEW_PASSWORD = "321resUtset";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HotelUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should serve repeated user details lookups from the cache")
+    void testLoadUserByUsernameIsCached() {
+        UserDetails loaded = this.userDetailsService.loadUserByUsername(USERNAME);
+
+        assertSame(loaded, this.userDetailsService.loadUserByUsername(USERNAME));
+        assertNotNull(userDetailsCache().get(USERNAME));
+    }
+
+    @Test
+    @DisplayName("Should evict cached user details when the password changes")
+    void testPasswordChangeEvictsUserDetails() throws Exception {
+        String oldPasswordHash = this.userDetailsService.loadUserByUsername(USERNAME).getPassword();
+
+        this.mockMvc.perform(post("/profile/password")
+                        .with(user(USERNAME))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(ProfilePasswordDto.builder()
+                                .oldPassword(OLD_PASSWORD)
+                                .newPassword(NEW_PASSWORD)
+                                .confirmNewPassword(NEW_PASSWORD)
+                                .build())))
+                .andExpect(status().isOk());
+
+        assertNull(userDetailsCache().get(USERNAME));
+        assertNotEquals(oldPasswordHash, this.userDetailsService.loadUserByUsername(USERNAME).getPassword());
+    }
+
+    @Test
+    @DisplayName("Should evict cached user details when the user is deactivated")
+    void testDeactivationEvictsUserDetails() throws Exception {
+        assertTrue(this.userDetailsService.loadUserByUsername(USERNAME).isEnabled());
+
+        this.mockMvc.perform(delete("/users/{id}", this.userRepository.findByUsername(USERNAME).orElseThrow().getUuid())
+                        .with(user("manager").roles("MANAGER"))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        assertNull(userDetailsCache().get(USERNAME));
+        assertFalse(this.userDetailsService.loadUserByUsername(USERNAME).isEnabled());
+    }
+
+    @Test
+    @DisplayName("Should keep cached user details until the evicting transaction commits")
+    void testEvictionWaitsForCommit() {
+        this.userDetailsService.loadUserByUsername(USERNAME);
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.userDetailsService.evict(USERNAME);
+            assertNotNull(userDetailsCache().get(USERNAME));
+        });
+
+        assertNull(userDetailsCache().get(USERNAME));
+    }
+
+    private Cache userDetailsCache() {
+        return this.cacheManager.getCache(USER_DETAILS_CACHE);
+    }
+}
@@ -1,3 +1,6 @@
+DELETE FROM reservation_payment_outbox;
+DELETE FROM file_cleanup_outbox;
+DELETE FROM room_type_inventory;
 DELETE FROM payments;
 DELETE FROM reservations_room_types;
 DELETE FROM reservations_rooms;